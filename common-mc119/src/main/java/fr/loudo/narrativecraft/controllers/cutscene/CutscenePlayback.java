@@ -24,19 +24,13 @@
 package fr.loudo.narrativecraft.controllers.cutscene;
 
 import fr.loudo.narrativecraft.NarrativeCraftMod;
-import fr.loudo.narrativecraft.api.inkAction.InkAction;
-import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
-import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.controllers.cutscene.CutsceneTimeline.Segment;
+import fr.loudo.narrativecraft.controllers.keyframe.KeyframeTriggerScheduler;
 import fr.loudo.narrativecraft.narrative.Environment;
 import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
 import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframe;
-import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframeGroup;
-import fr.loudo.narrativecraft.narrative.keyframes.keyframeTrigger.KeyframeTrigger;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.screens.controller.cutscene.CutsceneKeyframeOptionScreen;
-import fr.loudo.narrativecraft.util.Easing;
-import fr.loudo.narrativecraft.util.MathHelper;
-import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.util.Mth;
 import net.minecraft.world.phys.Vec3;
@@ -51,12 +45,13 @@ public class CutscenePlayback {
     private final CutsceneController cutsceneController;
     private final PlayerSession playerSession;
     private final Runnable onCutsceneEnd;
-    private CutsceneKeyframe keyframeA;
-    private CutsceneKeyframe keyframeB;
-    private CutsceneKeyframeGroup currentKeyframeGroup;
+    private Segment segment;
     private int segmentTick;
     private int totalTick;
     private boolean isPlaying;
+    private CutsceneTimeline timeline;
+    // Written in place every frame, the server syncs from the copy published each tick
+    private final KeyframeLocation pose = new KeyframeLocation(0, 0, 0, 0, 0, 0, 0);
 
     public CutscenePlayback(CutsceneController cutsceneController, Runnable onCutsceneEnd) {
         this.cutsceneController = cutsceneController;
@@ -65,12 +60,13 @@ public class CutscenePlayback {
     }
 
     public void setupAndPlay(CutsceneKeyframe keyframeA, CutsceneKeyframe keyframeB) {
-        this.keyframeA = keyframeA;
-        this.keyframeB = keyframeB;
-        currentKeyframeGroup = cutsceneController.getKeyframeGroupOfKeyframe(keyframeA);
+        timeline = CutsceneTimeline.compile(
+                cutsceneController.getKeyframeGroups(), cutsceneController.getTriggerScheduler());
+        segment = new Segment(keyframeA, keyframeB, cutsceneController.getKeyframeGroupOfKeyframe(keyframeA));
         cutsceneController.setPlaying(true);
         segmentTick = 0;
         totalTick = keyframeA.getTick();
+        cutsceneController.getTriggerScheduler().seek(totalTick);
         Minecraft.getInstance().options.hideGui = true;
         play();
     }
@@ -88,25 +84,20 @@ public class CutscenePlayback {
         if (Minecraft.getInstance().options.keyShift.isDown()
                 && cutsceneController.getEnvironment() == Environment.DEVELOPMENT) {
             stop();
+            CutsceneKeyframe keyframeA = segment.from();
             playerSession.setCurrentCamera(keyframeA.getKeyframeLocation());
             Minecraft.getInstance().setScreen(new CutsceneKeyframeOptionScreen(keyframeA, playerSession, false));
             cutsceneController.changeTimePosition(keyframeA.getTick(), true);
             cutsceneController.setPlaying(false);
         }
-        List<KeyframeTrigger> keyframeTriggersToExecute = cutsceneController.getKeyframeTriggers().stream()
-                .filter(trigger -> trigger.getTick() == totalTick)
-                .toList();
-        NarrativeCraftMod.server.execute(() -> {
-            for (KeyframeTrigger keyframeTrigger : keyframeTriggersToExecute) {
-                for (String command : keyframeTrigger.getCommandsToList()) {
-                    InkAction inkAction = InkActionRegistry.findByCommand(command);
-                    if (inkAction == null) continue;
-                    InkActionResult result = inkAction.validateAndExecute(command, playerSession);
-                    if (!result.isOk()) continue;
-                    playerSession.addInkAction(inkAction);
-                }
-            }
-        });
+        KeyframeTriggerScheduler triggerScheduler = cutsceneController.getTriggerScheduler();
+        int triggerBucket = triggerScheduler.poll(totalTick);
+        if (triggerBucket >= 0) {
+            NarrativeCraftMod.server.execute(() -> triggerScheduler.fire(triggerBucket, playerSession));
+        }
+        if (playerSession.getCurrentCamera() == pose) {
+            playerSession.publishCamera();
+        }
         segmentTick++;
         totalTick++;
     }
@@ -114,34 +105,14 @@ public class CutscenePlayback {
     public void cameraInterpolation(double partialTick) {
         if (!isPlaying) return;
 
-        double totalDelta;
-        if (segmentTick + partialTick < keyframeA.getStartDelayTick()) {
-            playerSession.setCurrentCamera(keyframeA.getKeyframeLocation());
-            return;
-        } else {
-            totalDelta = Mth.clamp(
-                    (segmentTick + partialTick - keyframeA.getStartDelayTick()) / keyframeB.getPathTick(), 0.0, 1.0);
+        timeline.samplePose(segment, segmentTick + partialTick, pose);
+        if (playerSession.getCurrentCamera() != pose) {
+            playerSession.setCurrentCamera(pose);
+            playerSession.publishCamera();
         }
 
-        if (keyframeB.getEasing() != Easing.SMOOTH
-                || currentKeyframeGroup.getKeyframes().size() < 2) {
-            totalDelta = keyframeB.getEasing().interpolate(totalDelta);
-            playerSession.setCurrentCamera(interpolate(
-                    totalDelta / keyframeB.getSpeed(),
-                    keyframeA.getKeyframeLocation(),
-                    keyframeB.getKeyframeLocation()));
-        } else {
-            KeyframeLocation location = interpolateByCatmull(partialTick);
-            playerSession.setCurrentCamera(location);
-        }
-
-        double extraDelay = 0;
-        if (currentKeyframeGroup.isLastKeyframe(keyframeB)) {
-            extraDelay += keyframeB.getTransitionDelayTick();
-        }
-        if (totalDelta >= 1.0
-                && segmentTick >= (keyframeB.getPathTick() + keyframeA.getStartDelayTick() + extraDelay)) {
-            if (cutsceneController.isLastKeyframe(keyframeB)) {
+        if (segmentTick >= timeline.getSegmentLength(segment)) {
+            if (timeline.isLastSegment(segment)) {
                 onEnd();
             } else {
                 pickNextKeyframes();
@@ -149,76 +120,9 @@ public class CutscenePlayback {
         }
     }
 
-    private KeyframeLocation interpolateByCatmull(double partialTick) {
-        List<CutsceneKeyframe> keyframes = currentKeyframeGroup.getKeyframes();
-        if (keyframes.size() < 2) return keyframes.getLast().getKeyframeLocation();
-
-        int startIndex = 0;
-        for (CutsceneKeyframe keyframe : keyframes) {
-            if (keyframe.getId() == keyframeA.getId()) {
-                break;
-            }
-            startIndex++;
-        }
-
-        double elapsedTick = (segmentTick + partialTick);
-        if (elapsedTick >= keyframeA.getStartDelayTick()) {
-            elapsedTick -= keyframeA.getStartDelayTick();
-        } else {
-            elapsedTick = 0;
-        }
-
-        int accumulatedTick = 0;
-        for (int i = startIndex; i < keyframes.size() - 1; i++) {
-            CutsceneKeyframe k1 = keyframes.get(i);
-            CutsceneKeyframe k2 = keyframes.get(i + 1);
-
-            int segmentDuration = (int) (k2.getPathTick() / k2.getSpeed());
-            if (elapsedTick < accumulatedTick + segmentDuration) {
-                double t = (elapsedTick - accumulatedTick) / segmentDuration;
-
-                CutsceneKeyframe p0 = keyframes.get(Math.max(i - 1, 0));
-                CutsceneKeyframe p1 = k1;
-                CutsceneKeyframe p2 = k2;
-                CutsceneKeyframe p3 = keyframes.get(Math.min(i + 2, keyframes.size() - 1));
-
-                return catmullRom(
-                        p0.getKeyframeLocation(),
-                        p1.getKeyframeLocation(),
-                        p2.getKeyframeLocation(),
-                        p3.getKeyframeLocation(),
-                        t);
-            }
-            accumulatedTick += segmentDuration;
-        }
-        return keyframes.getLast().getKeyframeLocation();
-    }
-
-    private KeyframeLocation catmullRom(
-            KeyframeLocation p0, KeyframeLocation p1, KeyframeLocation p2, KeyframeLocation p3, double t) {
-
-        double x = MathHelper.catmullRom(
-                (float) p0.getX(), (float) p1.getX(), (float) p2.getX(), (float) p3.getX(), (float) t);
-
-        double y = MathHelper.catmullRom(
-                (float) p0.getY(), (float) p1.getY(), (float) p2.getY(), (float) p3.getY(), (float) t);
-
-        double z = MathHelper.catmullRom(
-                (float) p0.getZ(), (float) p1.getZ(), (float) p2.getZ(), (float) p3.getZ(), (float) t);
-
-        float pitch = MathHelper.catmullRom(p0.getPitch(), p1.getPitch(), p2.getPitch(), p3.getPitch(), (float) t);
-
-        float yaw = interpolateAngleCatmullRom(p0.getYaw(), p1.getYaw(), p2.getYaw(), p3.getYaw(), t);
-
-        float fov = MathHelper.catmullRom(p0.getFov(), p1.getFov(), p2.getFov(), p3.getFov(), (float) t);
-
-        float roll = interpolateAngleCatmullRom(p0.getRoll(), p1.getRoll(), p2.getRoll(), p3.getRoll(), t);
-
-        return new KeyframeLocation(x, y, z, pitch, yaw, roll, fov);
-    }
-
     private void onEnd() {
         stop();
+        CutsceneKeyframe keyframeB = segment.to();
         playerSession.setCurrentCamera(keyframeB.getKeyframeLocation());
         if (cutsceneController.getEnvironment() == Environment.DEVELOPMENT) {
             CutsceneKeyframeOptionScreen screen = new CutsceneKeyframeOptionScreen(keyframeB, playerSession, false);
@@ -229,33 +133,9 @@ public class CutscenePlayback {
     }
 
     private void pickNextKeyframes() {
-        if (currentKeyframeGroup.getKeyframes().size() == 1) {
-            keyframeB = cutsceneController.getNextKeyframe(keyframeB);
-        }
-        CutsceneKeyframeGroup cutsceneKeyframeGroupB = cutsceneController.getKeyframeGroupOfKeyframe(keyframeB);
-        if (cutsceneKeyframeGroupB.getKeyframes().size() == 1) {
-            keyframeA = cutsceneKeyframeGroupB.getKeyframes().getFirst();
-        } else if (currentKeyframeGroup.getId() != cutsceneKeyframeGroupB.getId()) {
-            keyframeA = cutsceneKeyframeGroupB.getKeyframes().getFirst();
-            keyframeB = cutsceneController.getNextKeyframe(keyframeA);
-        } else {
-            keyframeA = keyframeB;
-            keyframeB = cutsceneController.getNextKeyframe(keyframeB);
-        }
+        segment = timeline.nextSegment(segment);
         segmentTick = 0;
-        currentKeyframeGroup = cutsceneController.getKeyframeGroupOfKeyframe(keyframeB);
-        playerSession.setCurrentCamera(keyframeA.getKeyframeLocation());
-    }
-
-    /**
-     * 1.20.x: Component-wise Vec3 lerp since Mth.lerp(double, Vec3, Vec3) doesn't exist
-     */
-    private Vec3 lerpVec3(double delta, Vec3 a, Vec3 b) {
-        return new Vec3(
-            Mth.lerp(delta, a.x, b.x),
-            Mth.lerp(delta, a.y, b.y),
-            Mth.lerp(delta, a.z, b.z)
-        );
+        playerSession.setCurrentCamera(segment.from().getKeyframeLocation());
     }
 
     public KeyframeLocation interpolate(double delta, KeyframeLocation a, KeyframeLocation b) {
@@ -263,67 +143,33 @@ public class CutscenePlayback {
         // 1.20.x: Use component-wise lerp instead of Mth.lerp(double, Vec3, Vec3)
         Vec3 position = lerpVec3(delta, a.getPosition(), b.getPosition());
         float pitch = (float) Mth.lerp(delta, a.getPitch(), b.getPitch());
-        float yaw = interpolateAngle(a.getYaw(), b.getYaw(), delta);
-        float roll = interpolateAngle(a.getRoll(), b.getRoll(), delta);
+        float yaw = CameraPath.interpolateAngle(a.getYaw(), b.getYaw(), delta);
+        float roll = CameraPath.interpolateAngle(a.getRoll(), b.getRoll(), delta);
         float fov = (float) Mth.lerp(delta, a.getFov(), b.getFov());
         return new KeyframeLocation(position, pitch, yaw, roll, fov);
     }
 
-    private static float getShortestAngleDifference(float from, float to) {
-        float diff = to - from;
-        if (diff > 180) {
-            diff -= 360;
-        } else if (diff < -180) {
-            diff += 360;
-        }
-        return diff;
-    }
-
-    private static float normalizeAngle(float angle) {
-        while (angle > 180) angle -= 360;
-        while (angle <= -180) angle += 360;
-        return angle;
-    }
-
-    private static float interpolateAngle(float from, float to, double t) {
-        float diff = getShortestAngleDifference(from, to);
-        return normalizeAngle(from + (float) (diff * t));
-    }
-
-    private static float unwrapAngle(float angle, float reference) {
-        return reference + getShortestAngleDifference(reference, angle);
-    }
-
-    private static float interpolateAngleCatmullRom(float a0, float a1, float a2, float a3, double t) {
-        a0 = unwrapAngle(a0, a1);
-        a2 = unwrapAngle(a2, a1);
-        a3 = unwrapAngle(a3, a2);
-        double t2 = t * t;
-        double t3 = t2 * t;
-
-        float angle = (float) (0.5
-                * ((2.0 * a1)
-                        + (-a0 + a2) * t
-                        + (2.0 * a0 - 5.0 * a1 + 4.0 * a2 - a3) * t2
-                        + (-a0 + 3.0 * a1 - 3.0 * a2 + a3) * t3));
-
-        return normalizeAngle(angle);
-    }
-
     public CutsceneKeyframe getKeyframeA() {
-        return keyframeA;
+        return segment == null ? null : segment.from();
     }
 
     public void setKeyframeA(CutsceneKeyframe keyframeA) {
-        this.keyframeA = keyframeA;
+        segment = new Segment(keyframeA, segment.to(), segment.group());
     }
 
     public CutsceneKeyframe getKeyframeB() {
-        return keyframeB;
+        return segment == null ? null : segment.to();
     }
 
     public void setKeyframeB(CutsceneKeyframe keyframeB) {
-        this.keyframeB = keyframeB;
+        segment = new Segment(segment.from(), keyframeB, segment.group());
+    }
+
+    /**
+     * Camera path and triggers of the current play, null until the first one.
+     */
+    public CutsceneTimeline getTimeline() {
+        return timeline;
     }
 
     public boolean isPlaying() {
@@ -28,7 +28,6 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.api.inkAction.InkAction;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
-import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 
@@ -51,7 +50,7 @@ public class OnHudRender {
                 .getPlayerSessionManager()
                 .getSessionByPlayer(Minecraft.getInstance().player);
         if (playerSession == null) return;
-        List<InkAction> inkActionsClient = playerSession.getClientSideInkActions();
+        InkAction[] inkActionsClient = playerSession.getClientSideInkActions();
         for (InkAction inkAction : inkActionsClient) {
             inkAction.render(poseStack, partialTick);
         }
@@ -27,7 +27,6 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.commands.RecordCommand;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
 import fr.loudo.narrativecraft.items.CutsceneEditItems;
-import fr.loudo.narrativecraft.managers.PlayerSessionManager;
 import fr.loudo.narrativecraft.managers.RecordingManager;
 import fr.loudo.narrativecraft.narrative.NarrativeEntryInit;
 import fr.loudo.narrativecraft.narrative.cleanup.NarrativeCleanupService;
@@ -87,10 +86,6 @@ public class OnPlayerServerConnection {
     }
 
     private static void clearSession(ServerPlayer player) {
-        PlayerSessionManager playerSessionManager =
-                NarrativeCraftMod.getInstance().getPlayerSessionManager();
-        PlayerSession playerSession = playerSessionManager.getSessionByPlayer(player);
-        if (playerSession == null) return;
-        playerSessionManager.removeSession(playerSession);
+        NarrativeCraftMod.getInstance().getPlayerSessionManager().removeSession(player);
     }
 }
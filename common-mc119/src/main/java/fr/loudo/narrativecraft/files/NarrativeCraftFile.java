@@ -36,6 +36,7 @@ import fr.loudo.narrativecraft.narrative.chapter.scene.data.Subscene;
 import fr.loudo.narrativecraft.narrative.character.*;
 import fr.loudo.narrativecraft.narrative.data.MainScreenData;
 import fr.loudo.narrativecraft.narrative.dialog.DialogData;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
 import fr.loudo.narrativecraft.narrative.story.StorySave;
 import fr.loudo.narrativecraft.options.NarrativeClientOption;
 import fr.loudo.narrativecraft.options.NarrativeWorldOption;
@@ -66,6 +67,7 @@ import net.minecraft.world.level.storage.LevelResource;
 public class NarrativeCraftFile {
     public static final String EXTENSION_SCRIPT_FILE = ".ink";
     public static final String EXTENSION_DATA_FILE = ".json";
+    public static final String EXTENSION_ANIMATION_FILE = ".nca";
 
     private static final String DIRECTORY_NAME = NarrativeCraftMod.MOD_ID;
 
@@ -99,6 +101,9 @@ public class NarrativeCraftFile {
 
     // SAVE
     public static final String SAVE_FILE_NAME = "save" + EXTENSION_DATA_FILE;
+    private static final Gson SAVE_GSON = new GsonBuilder()
+            .registerTypeAdapter(StorySave.class, new StorySaveSerializer())
+            .create();
 
     // STORY
     public static final String STORY_FILE_NAME = "story" + EXTENSION_DATA_FILE;
@@ -192,6 +197,7 @@ public class NarrativeCraftFile {
     }
 
     public static boolean saveExists() {
+        StorySaveWriter.flush();
         return new File(savesDirectory, SAVE_FILE_NAME).exists();
     }
 
@@ -200,25 +206,21 @@ public class NarrativeCraftFile {
     }
 
     public static StorySave saveContent() throws IOException {
+        StorySaveWriter.flush();
         File saveFile = new File(savesDirectory, SAVE_FILE_NAME);
         String saveContent = Files.readString(saveFile.toPath());
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(StorySave.class, new StorySaveSerializer())
-                .create();
-        return gson.fromJson(saveContent, StorySave.class);
+        return SAVE_GSON.fromJson(saveContent, StorySave.class);
     }
 
-    public static void writeSave(StorySave save) throws IOException {
-        File saveFile = createFile(savesDirectory, SAVE_FILE_NAME);
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(StorySave.class, new StorySaveSerializer())
-                .create();
-        try (Writer writer = new BufferedWriter(new FileWriter(saveFile))) {
-            gson.toJson(save, writer);
-        }
+    /**
+     * Serialize the save on the calling thread and hand it to {@link StorySaveWriter}.
+     */
+    public static void writeSave(StorySave save) {
+        StorySaveWriter.submit(new File(savesDirectory, SAVE_FILE_NAME), SAVE_GSON.toJson(save));
     }
 
     public static void removeSave() {
+        StorySaveWriter.discard();
         File saveFile = new File(savesDirectory, SAVE_FILE_NAME);
         saveFile.delete();
     }
@@ -419,24 +421,132 @@ public class NarrativeCraftFile {
 
     public static void updateAnimationFile(Animation newAnimation) throws IOException {
         File animationsFolder = getAnimationsFolder(newAnimation.getScene());
-        File animationFile = createFile(animationsFolder, Util.snakeCase(newAnimation.getName()) + EXTENSION_DATA_FILE);
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(Animation.class, new AnimationSerializer(newAnimation.getScene()))
-                .create();
-        try (Writer writer = new BufferedWriter(new FileWriter(animationFile))) {
-            gson.toJson(newAnimation, writer);
+        String fileName = Util.snakeCase(newAnimation.getName());
+        File animationFile = new File(animationsFolder, fileName + EXTENSION_ANIMATION_FILE);
+        File tempFile = new File(animationsFolder, fileName + EXTENSION_ANIMATION_FILE + ".tmp");
+        boolean wasLoaded = newAnimation.isDataLoaded();
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            AnimationBinaryCodec.write(newAnimation, outputStream, true);
+        }
+        Files.move(tempFile.toPath(), animationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        // Binary file now holds the data, drop the legacy JSON one if it is still around
+        new File(animationsFolder, fileName + EXTENSION_DATA_FILE).delete();
+        if (!wasLoaded) {
+            // Header-only animation, its file may have been renamed
+            newAnimation.unloadTo(animationFile);
         }
     }
 
     public static void updateAnimationFile(Animation oldAnimation, Animation newAnimation) throws IOException {
-        File animationsFolder = getAnimationsFolder(newAnimation.getScene());
         NarrativeCraftFile.updateAnimationFile(newAnimation);
-        new File(animationsFolder, Util.snakeCase(oldAnimation.getName()) + EXTENSION_DATA_FILE).delete();
+        if (Util.snakeCase(oldAnimation.getName()).equals(Util.snakeCase(newAnimation.getName()))) return;
+        deleteAnimationFile(oldAnimation);
     }
 
     public static void deleteAnimationFile(Animation animation) {
         File animationsFolder = getAnimationsFolder(animation.getScene());
-        new File(animationsFolder, Util.snakeCase(animation.getName()) + EXTENSION_DATA_FILE).delete();
+        String fileName = Util.snakeCase(animation.getName());
+        new File(animationsFolder, fileName + EXTENSION_ANIMATION_FILE).delete();
+        new File(animationsFolder, fileName + EXTENSION_DATA_FILE).delete();
+    }
+
+    /**
+     * Read an animation for startup: binary files only load their header and keep the
+     * tracks on disk, legacy JSON files are read entirely. Returns null for other files.
+     */
+    public static Animation readAnimationHeader(File animationFile, Scene scene) throws IOException {
+        if (!animationFile.getName().endsWith(EXTENSION_ANIMATION_FILE)) {
+            return readAnimationFile(animationFile, scene);
+        }
+        Animation animation;
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(animationFile))) {
+            animation = AnimationBinaryCodec.readHeader(inputStream, scene);
+        }
+        animation.unloadTo(animationFile);
+        return animation;
+    }
+
+    public static List<ActionsData> readAnimationData(Animation animation) throws IOException {
+        try (InputStream inputStream =
+                new BufferedInputStream(new FileInputStream(animation.getDataFile()))) {
+            return AnimationBinaryCodec.readActionsData(inputStream);
+        }
+    }
+
+    /**
+     * Read an animation file, binary or legacy JSON. Returns null for files that are neither.
+     */
+    public static Animation readAnimationFile(File animationFile, Scene scene) throws IOException {
+        String fileName = animationFile.getName();
+        if (fileName.endsWith(EXTENSION_ANIMATION_FILE)) {
+            try (InputStream inputStream = new BufferedInputStream(new FileInputStream(animationFile))) {
+                return AnimationBinaryCodec.read(inputStream, scene);
+            }
+        }
+        if (fileName.endsWith(EXTENSION_DATA_FILE)) {
+            Gson gson = new GsonBuilder()
+                    .registerTypeAdapter(Animation.class, new AnimationSerializer(scene))
+                    .create();
+            return gson.fromJson(Files.readString(animationFile.toPath()), Animation.class);
+        }
+        return null;
+    }
+
+    /**
+     * Rewrite a legacy JSON animation file in the binary format. The binary format quantizes
+     * positions and angles, so the JSON file is first moved next to it with a {@code .bak} suffix,
+     * and moved back if the binary file can't be written.
+     */
+    public static void migrateAnimationFile(File legacyFile, Animation animation) throws IOException {
+        if (!legacyFile.getName().endsWith(EXTENSION_DATA_FILE)) return;
+        File backupFile = new File(legacyFile.getParentFile(), legacyFile.getName() + ".bak");
+        Files.move(legacyFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        try {
+            updateAnimationFile(animation);
+        } catch (IOException e) {
+            Files.move(backupFile.toPath(), legacyFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            throw e;
+        }
+        animation.unloadTo(new File(
+                getAnimationsFolder(animation.getScene()),
+                Util.snakeCase(animation.getName()) + EXTENSION_ANIMATION_FILE));
+    }
+
+    /**
+     * Export an animation as pretty JSON, with its tracks exactly as they are held. Dropping the
+     * file back into a scene's animations folder imports it on the next load.
+     */
+    public static void exportAnimationJson(Animation animation, File targetFile) throws IOException {
+        Animation exported = animation;
+        if (!animation.isDataLoaded()) {
+            // Header-only animation, its tracks only live in the binary file
+            List<ActionsData> actionsData = animation.getActionsData();
+            if (actionsData == null) {
+                throw new IOException("Couldn't load animation data of " + animation.getName());
+            }
+            exported = new Animation(animation.getName(), animation.getScene());
+            exported.setCharacter(animation.getCharacter());
+            exported.setSkinName(animation.getSkinName());
+            exported.setActionsData(actionsData);
+        }
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapter(Animation.class, new AnimationSerializer(animation.getScene()))
+                .setPrettyPrinting()
+                .create();
+        try (Writer writer = new BufferedWriter(new FileWriter(targetFile))) {
+            gson.toJson(exported, writer);
+        }
+    }
+
+    /**
+     * Whether {@code animationFile} is a legacy JSON animation that already has a binary file next
+     * to it, in which case only the binary one is loaded.
+     */
+    public static boolean hasBinaryAnimationFile(File animationFile) {
+        String fileName = animationFile.getName();
+        if (!fileName.endsWith(EXTENSION_DATA_FILE)) return false;
+        String baseName = fileName.substring(0, fileName.length() - EXTENSION_DATA_FILE.length());
+        return new File(animationFile.getParentFile(), baseName + EXTENSION_ANIMATION_FILE).exists();
     }
 
     public static void deleteSceneDirectory(Scene scene) throws IOException {
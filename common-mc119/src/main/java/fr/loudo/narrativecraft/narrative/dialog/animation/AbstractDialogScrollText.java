@@ -32,7 +32,6 @@ import fr.loudo.narrativecraft.util.Util;
 import java.util.*;
 import net.minecraft.client.Minecraft;
 import net.minecraft.sounds.SoundEvent;
-import org.joml.Vector2f;
 
 /**
  * MC 1.19.x version of AbstractDialogScrollText.
@@ -40,9 +39,11 @@ import org.joml.Vector2f;
  */
 public abstract class AbstractDialogScrollText {
     protected final Minecraft minecraft;
-    protected final List<LetterLocation> lettersRenderer = new ArrayList<>();
+    protected final LetterBuffer letters = new LetterBuffer();
+    private final Random soundRandom = new Random();
     protected TextEffectAnimation textEffectAnimation;
     protected List<String> lines = new ArrayList<>();
+    private String longerTextLine;
     protected int currentLine;
     protected int currentCharIndex;
     protected int index;
@@ -66,6 +67,7 @@ public abstract class AbstractDialogScrollText {
         text = text.replace("\n", "").trim();
         ParsedDialog parsedDialog = ParsedDialog.parse(text);
         lines = splitTextIntoLines(parsedDialog.cleanedText());
+        longerTextLine = null;
         textEffectAnimation = new TextEffectAnimation(parsedDialog);
     }
 
@@ -82,7 +84,7 @@ public abstract class AbstractDialogScrollText {
         tickAccumulator = 0.0f;
         currentX = getInitialX();
         currentY = getInitialY();
-        lettersRenderer.clear();
+        letters.clear();
     }
 
     public void forceFinish() {
@@ -136,7 +138,7 @@ public abstract class AbstractDialogScrollText {
         }
 
         char letter = currentLineText.charAt(currentCharIndex);
-        lettersRenderer.add(new LetterLocation(letter, currentX, currentY, true));
+        letters.add(letter, currentX, currentY, true);
         currentX += Util.getLetterWidth(letter, minecraft) + letterSpacing;
         currentCharIndex++;
 
@@ -149,7 +151,7 @@ public abstract class AbstractDialogScrollText {
     }
 
     protected void moveToNextLine() {
-        lettersRenderer.add(new LetterLocation(' ', currentX, currentY, false));
+        letters.add(' ', currentX, currentY, false);
         currentLine++;
         currentCharIndex = 0;
         currentX = getInitialX();
@@ -157,7 +159,7 @@ public abstract class AbstractDialogScrollText {
     }
 
     protected void playLetterSound() {
-        float pitch = 0.8F + new Random().nextFloat() * 0.4F;
+        float pitch = 0.8F + soundRandom.nextFloat() * 0.4F;
         SoundEvent soundEvent = (SoundEvent) VersionAdapterLoader.getAdapter().getUtilCompat().createSoundEvent(letterSound);
         minecraft.player.playSound(soundEvent, 1.0F, pitch);
     }
@@ -168,22 +170,27 @@ public abstract class AbstractDialogScrollText {
     }
 
     public String getLongerTextLine() {
-        return Util.getLongerTextLine(lines, minecraft);
+        // Asked for on every frame by some renderers, lines only change with setText()
+        if (longerTextLine == null) {
+            longerTextLine = Util.getLongerTextLine(lines, minecraft);
+        }
+        return longerTextLine;
     }
 
     public List<String> getLines() {
         return lines;
     }
 
-    public Map<Integer, Vector2f> getTextEffectOffsets(float partialTick) {
-        if (textEffectAnimation != null) {
-            return textEffectAnimation.getOffsets(partialTick);
-        }
-        return Collections.emptyMap();
+    public float getTextEffectOffsetX(int index, float partialTick) {
+        return textEffectAnimation != null ? textEffectAnimation.getOffsetX(index, partialTick) : 0;
     }
 
-    public List<LetterLocation> getLettersRenderer() {
-        return lettersRenderer;
+    public float getTextEffectOffsetY(int index, float partialTick) {
+        return textEffectAnimation != null ? textEffectAnimation.getOffsetY(index, partialTick) : 0;
+    }
+
+    public LetterBuffer getLetters() {
+        return letters;
     }
 
     public int getTextColor() {
@@ -225,6 +232,4 @@ public abstract class AbstractDialogScrollText {
     public void setLetterSound(NcId letterSound) {
         this.letterSound = letterSound;
     }
-
-    public record LetterLocation(char letter, float x, float y, boolean render) {}
 }
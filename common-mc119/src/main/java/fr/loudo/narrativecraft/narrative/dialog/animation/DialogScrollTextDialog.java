@@ -32,13 +32,11 @@ import fr.loudo.narrativecraft.narrative.dialog.DialogRenderer3D;
 import fr.loudo.narrativecraft.options.NarrativeClientOption;
 import fr.loudo.narrativecraft.util.Util;
 import java.util.List;
-import java.util.Map;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
-import org.joml.Vector2f;
 
 /**
  * MC 1.19.x version of DialogScrollTextDialog.
@@ -90,18 +88,12 @@ public class DialogScrollTextDialog extends AbstractDialogScrollText {
     }
 
     public void render(PoseStack poseStack, MultiBufferSource.BufferSource source, float partialTick) {
-        Map<Integer, Vector2f> offsets = getTextEffectOffsets(partialTick);
-        for (int i = 0; i < lettersRenderer.size(); i++) {
-            LetterLocation letter = lettersRenderer.get(i);
-            if (!letter.render()) continue;
-            float x = letter.x();
-            float y = letter.y();
-            if (offsets.containsKey(i)) {
-                x += offsets.get(i).x;
-                y += offsets.get(i).y;
-            }
+        for (int i = 0; i < letters.size(); i++) {
+            if (!letters.isRendered(i)) continue;
+            float x = letters.getX(i) + getTextEffectOffsetX(i, partialTick);
+            float y = letters.getY(i) + getTextEffectOffsetY(i, partialTick);
             minecraft.font.drawInBatch(
-                    String.valueOf(letter.letter()),
+                    letters.getGlyph(i),
                     x,
                     y,
                     NarrativeCraftMod.getColorCompat().color(255, textColor),
@@ -116,24 +108,18 @@ public class DialogScrollTextDialog extends AbstractDialogScrollText {
     }
 
     public void render(GuiGraphics guiGraphics, float partialTick) {
-        Map<Integer, Vector2f> offsets = getTextEffectOffsets(partialTick);
-        for (int i = 0; i < lettersRenderer.size(); i++) {
-            LetterLocation letter = lettersRenderer.get(i);
-            if (!letter.render()) continue;
-            float x = letter.x();
-            float y = letter.y();
+        for (int i = 0; i < letters.size(); i++) {
+            if (!letters.isRendered(i)) continue;
+            float x = letters.getX(i) + getTextEffectOffsetX(i, partialTick);
+            float y = letters.getY(i) + getTextEffectOffsetY(i, partialTick);
             if (dialogRenderer instanceof DialogRenderer3D dialogRenderer3D) {
                 if (dialogRenderer3D.getDialogOffset().y < 0) {
                     y += dialogRenderer3D.getTotalHeight() - dialogRenderer3D.getPaddingY();
                 }
             }
-            if (offsets.containsKey(i)) {
-                x += offsets.get(i).x;
-                y += offsets.get(i).y;
-            }
             ((ICustomGuiRender) guiGraphics)
                     .narrativecraft$drawStringFloat(
-                            String.valueOf(letter.letter()), minecraft.font, x, y, NarrativeCraftMod.getColorCompat().color(255, textColor), false);
+                            letters.getGlyph(i), minecraft.font, x, y, NarrativeCraftMod.getColorCompat().color(255, textColor), false);
         }
     }
 }
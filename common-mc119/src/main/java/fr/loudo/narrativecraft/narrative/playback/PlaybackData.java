@@ -27,7 +27,7 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.compat.api.IUtilCompat;
 import fr.loudo.narrativecraft.mixin.invoker.LivingEntityInvoker;
 import fr.loudo.narrativecraft.narrative.recording.Location;
-import fr.loudo.narrativecraft.narrative.recording.actions.Action;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionTimeline;
 import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
 import fr.loudo.narrativecraft.narrative.recording.actions.BreakBlockAction;
 import fr.loudo.narrativecraft.util.FakePlayer;
@@ -37,6 +37,7 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 
 /**
  * MC 1.19.x version of PlaybackData.
@@ -48,6 +49,11 @@ public class PlaybackData {
     private final Playback playback;
     private Entity entity;
     private int localTick;
+    private int actionCursor;
+    // Filled by prepare(), consumed by apply()
+    private boolean spawnDue;
+    private Location preparedLocation;
+    private Vec3 preparedMotion;
 
     public PlaybackData(ActionsData actionsData, Playback playback) {
         this.actionsData = actionsData;
@@ -56,21 +62,39 @@ public class PlaybackData {
     }
 
     public void tick(int globalTick) {
-        if (globalTick >= actionsData.getSpawnTick()) {
-            if (entity == null) {
-                spawnEntity(actionsData.getLocations().getFirst());
-            }
-        }
-
-        if (entity == null) return;
+        prepare(globalTick);
+        apply(PlaybackLod.FULL);
+    }
 
+    /**
+     * Resolve where the entity moves this tick. Only reads recorded data, never the world,
+     * so it is safe to run off the server thread.
+     */
+    public void prepare(int globalTick) {
+        spawnDue = globalTick >= actionsData.getSpawnTick();
         List<Location> movements = actionsData.getLocations();
-        if (localTick >= movements.size()) return;
+        if (localTick >= movements.size()) {
+            preparedLocation = null;
+            return;
+        }
+        preparedLocation = movements.get(localTick);
+        Location next = localTick + 1 < movements.size() ? movements.get(localTick + 1) : preparedLocation;
+        preparedMotion = Location.deltaLocation(preparedLocation, next).asVec3();
+    }
+
+    /**
+     * Apply what {@link #prepare} resolved to the world, server thread only.
+     */
+    public void apply(PlaybackLod lod) {
+        if (spawnDue && entity == null) {
+            spawnEntity(actionsData.getLocations().getFirst());
+        }
 
-        Location current = movements.get(localTick);
-        Location next = localTick + 1 < movements.size() ? movements.get(localTick + 1) : current;
+        if (entity == null || preparedLocation == null) return;
 
-        moveEntity(current, next, false);
+        if (lod.shouldMove(localTick, actionsData.getLocations().size())) {
+            moveEntity(preparedLocation, lod == PlaybackLod.FULL ? preparedMotion : null);
+        }
 
         localTick++;
     }
@@ -117,7 +141,7 @@ public class PlaybackData {
         entity = (Entity) utilCompat.createEntityFromType(entityType, playback.getLevel());
         if (entity == null) return;
         try {
-            utilCompat.loadEntityFromNbt(entity, actionsData.getNbtData());
+            utilCompat.loadEntityFromTag(entity, actionsData.getParsedNbtData());
         } catch (RuntimeException e) {
             NarrativeCraftMod.LOGGER.error("Unexpected error when trying to load nbt entity data! ", e);
             return;
@@ -126,10 +150,14 @@ public class PlaybackData {
         moveEntity(location, location, true);
         if (entity instanceof ItemEntity itemEntity) { // Drop Item
             boolean randomizeMotion = false;
-            for (Action action : playback.getMasterEntityData().getActions()) {
-                if (action instanceof BreakBlockAction && action.getTick() == playback.getTick() - 1) {
-                    randomizeMotion = true;
-                    break;
+            ActionTimeline masterTimeline = playback.getMasterEntityData().getTimeline();
+            int bucket = masterTimeline.seek(playback.getTick() - 1);
+            if (masterTimeline.isAt(bucket, playback.getTick() - 1)) {
+                for (int i = masterTimeline.bucketStart(bucket); i < masterTimeline.bucketEnd(bucket); i++) {
+                    if (masterTimeline.get(i) instanceof BreakBlockAction) {
+                        randomizeMotion = true;
+                        break;
+                    }
                 }
             }
             entity = ((LivingEntityInvoker) playback.getMasterEntity())
@@ -139,22 +167,37 @@ public class PlaybackData {
     }
 
     private void moveEntity(Location current, Location next, boolean silent) {
+        moveEntity(current, silent ? null : Location.deltaLocation(current, next).asVec3());
+    }
+
+    private void moveEntity(Location current, Vec3 motion) {
         if (entity == null) return;
         entity.setXRot(current.pitch());
         entity.setYRot(current.yaw());
         entity.setYHeadRot(current.yaw());
         entity.setOnGround(current.onGround());
         entity.teleportTo(current.x(), current.y(), current.z());
-        if (!silent) {
-            entity.move(MoverType.SELF, Location.deltaLocation(current, next).asVec3());
+        if (motion != null) {
+            entity.move(MoverType.SELF, motion);
         }
     }
 
     public void reset() {
         this.localTick = 0;
+        this.actionCursor = 0;
         actionsData.reset(entity);
     }
 
+    /**
+     * Move the action cursor to {@code globalTick} and return the timeline bucket
+     * of actions due at that tick, or -1 if there are none.
+     */
+    public int seekActionBucket(int globalTick) {
+        ActionTimeline timeline = actionsData.getTimeline();
+        actionCursor = timeline.advance(actionCursor, globalTick);
+        return timeline.isAt(actionCursor, globalTick) ? actionCursor : -1;
+    }
+
     public boolean hasEnded() {
         return localTick >= actionsData.getLocations().size();
     }
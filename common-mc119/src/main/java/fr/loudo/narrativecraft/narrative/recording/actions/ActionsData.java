@@ -26,6 +26,7 @@ package fr.loudo.narrativecraft.narrative.recording.actions;
 import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.narrative.playback.PlaybackData;
 import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.LocationTrack;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,11 +48,13 @@ public class ActionsData {
     private int entityIdRecording;
     private int spawnTick;
     private String nbtData;
-    private final List<Location> locations;
+    private final LocationTrack locations;
     private final List<Action> actions;
+    private transient ActionTimeline timeline;
+    private transient Object parsedNbtData;
 
     public ActionsData(Entity entity, int spawnTick) {
-        this.locations = new ArrayList<>();
+        this.locations = new LocationTrack();
         this.actions = new ArrayList<>();
         this.entity = entity;
         if (!(entity instanceof ServerPlayer)) {
@@ -62,10 +65,24 @@ public class ActionsData {
         entityIdRecording = -1;
     }
 
+    public ActionsData(
+            int entityId,
+            int entityIdRecording,
+            int spawnTick,
+            String nbtData,
+            List<Location> locations,
+            List<Action> actions) {
+        this.entityId = entityId;
+        this.entityIdRecording = entityIdRecording;
+        this.spawnTick = spawnTick;
+        this.nbtData = nbtData;
+        this.locations = LocationTrack.copyOf(locations);
+        this.actions = actions;
+    }
+
     public void addLocation() {
-        Location currentLoc = new Location(
+        locations.append(
                 entity.getX(), entity.getY(), entity.getZ(), entity.getXRot(), entity.getYRot(), entity.isOnGround());
-        locations.add(currentLoc);
     }
 
     public void reset(Entity entity) {
@@ -101,9 +118,24 @@ public class ActionsData {
 
     public void addAction(Action action) {
         actions.add(action);
+        timeline = null;
+    }
+
+    /**
+     * Tick-sorted index of the actions, compiled on first use after load or save.
+     */
+    public ActionTimeline getTimeline() {
+        if (timeline == null) {
+            timeline = ActionTimeline.compile(actions);
+        }
+        return timeline;
+    }
+
+    public void invalidateTimeline() {
+        timeline = null;
     }
 
-    public List<Location> getLocations() {
+    public LocationTrack getLocations() {
         return locations;
     }
 
@@ -142,4 +174,14 @@ public class ActionsData {
     public String getNbtData() {
         return nbtData;
     }
+
+    /**
+     * Entity NBT parsed on first use, so looping playbacks don't parse it again on every spawn.
+     */
+    public Object getParsedNbtData() {
+        if (parsedNbtData == null) {
+            parsedNbtData = NarrativeCraftMod.getUtilCompat().parseEntityNbt(nbtData);
+        }
+        return parsedNbtData;
+    }
 }
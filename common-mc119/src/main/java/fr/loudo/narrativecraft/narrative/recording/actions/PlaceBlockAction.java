@@ -28,6 +28,7 @@ import fr.loudo.narrativecraft.narrative.recording.actions.manager.ActionType;
 import fr.loudo.narrativecraft.util.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.level.block.BedBlock;
@@ -47,6 +48,8 @@ public class PlaceBlockAction extends Action {
 
     private int x, y, z;
     private String data;
+    private transient RegistryAccess decodedFor;
+    private transient BlockState decodedState;
 
     public PlaceBlockAction(int tick, BlockPos blockPos, BlockState blockState) {
         super(tick, ActionType.BLOCK_PLACE);
@@ -59,8 +62,7 @@ public class PlaceBlockAction extends Action {
     @Override
     public void execute(PlaybackData playbackData) {
         // 1.19.x: Use entity.getLevel().registryAccess() instead of entity.registryAccess()
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().getLevel().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().getLevel().registryAccess());
         if (blockState == null) return;
         BlockPos blockPos = new BlockPos(x, y, z);
         playbackData.getLevel().setBlock(blockPos, blockState, 3);
@@ -79,8 +81,7 @@ public class PlaceBlockAction extends Action {
     public void rewind(PlaybackData playbackData) {
         BlockPos blockPos = getBlockPos();
         // 1.19.x: Use entity.getLevel().registryAccess() instead of entity.registryAccess()
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().getLevel().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().getLevel().registryAccess());
         if (blockState != null) {
             if (blockState.getBlock() instanceof BedBlock) {
                 if (blockState.getValue(BedBlock.PART) == BedPart.FOOT) {
@@ -99,4 +100,13 @@ public class PlaceBlockAction extends Action {
     public BlockPos getBlockPos() {
         return new BlockPos(x, y, z);
     }
+
+    // Decoded once per load and registry set, a looping playback runs the same action every cycle
+    private BlockState getBlockState(RegistryAccess registryAccess) {
+        if (decodedFor != registryAccess) {
+            decodedState = Util.getBlockStateFromData(data, registryAccess);
+            decodedFor = registryAccess;
+        }
+        return decodedState;
+    }
 }
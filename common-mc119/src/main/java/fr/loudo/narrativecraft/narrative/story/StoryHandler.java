@@ -45,6 +45,7 @@ import fr.loudo.narrativecraft.narrative.character.CharacterStory;
 import fr.loudo.narrativecraft.narrative.character.CharacterStoryData;
 import fr.loudo.narrativecraft.narrative.dialog.*;
 import fr.loudo.narrativecraft.narrative.inkTag.InkTagHandlerException;
+import fr.loudo.narrativecraft.narrative.inkTag.ParsedTag;
 import fr.loudo.narrativecraft.narrative.playback.Playback;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.inkAction.GameplayInkAction;
@@ -56,7 +57,9 @@ import fr.loudo.narrativecraft.screens.story.StoryChoicesScreen;
 import fr.loudo.narrativecraft.util.Translation;
 import fr.loudo.narrativecraft.util.Util;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
@@ -81,6 +84,7 @@ public class StoryHandler {
     private final StoryDebugHud storyDebugHud;
     private DialogData dialogData = new DialogData(DialogData.globalDialogData);
     private static final Pattern DIALOG_PATTERN = Pattern.compile(DIALOG_REGEX);
+    private final Map<String, ParsedTag> parsedTags = new HashMap<>();
     private Story story;
     private String dialogText;
     private boolean loadScene, debugMode, firstLoad, hasError;
@@ -137,7 +141,8 @@ public class StoryHandler {
         minecraft.options.hideGui = false;
         firstLoad = true;
         try {
-            story = new Story(NarrativeCraftFile.storyContent());
+            story = NarrativeCraftMod.getInstance().getStoryCacheManager().newStory();
+            parsedTags.clear();
             story.onError = (s, errorType) -> {
                 NarrativeCraftMod.server.execute(this::stop);
                 showCrash(new Exception(errorType + " " + s));
@@ -210,6 +215,7 @@ public class StoryHandler {
             playerSession.getAreaTriggersEntered().clear();
             playerSession.setLastAreaTriggerEntered(null);
             playerSession.getInteractionControllers().clear();
+            playerSession.getInteractionLookTracker().reset();
             playerSession.getInkTagHandler().getTagsToExecute().clear();
         } finally {
             // GUARANTEE: State manager returns to GAMEPLAY regardless of errors
@@ -286,6 +292,13 @@ public class StoryHandler {
         }
     }
 
+    /**
+     * Fill the variables of a tag of the current story, reusing its tokenization across executions.
+     */
+    public ParsedTag.Bound bindTag(String tag) {
+        return parsedTags.computeIfAbsent(tag, ParsedTag::parse).bind(story);
+    }
+
     public void next() {
         try {
             if (story == null) throw new Exception("Story is not initialized!");
@@ -27,10 +27,10 @@ import com.bladecoder.ink.runtime.Choice;
 import com.mojang.blaze3d.vertex.PoseStack;
 import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.gui.ICustomGuiRender;
+import fr.loudo.narrativecraft.narrative.dialog.animation.LetterBuffer;
 import fr.loudo.narrativecraft.narrative.story.text.ParsedDialog;
 import fr.loudo.narrativecraft.narrative.story.text.TextEffectAnimation;
 import fr.loudo.narrativecraft.util.Util;
-import java.util.Map;
 import java.util.function.Consumer;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
@@ -38,7 +38,6 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.AbstractButton;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.network.chat.Component;
-import org.joml.Vector2f;
 
 /**
  * MC 1.19.x version of ChoiceButtonWidget.
@@ -113,19 +112,16 @@ public class ChoiceButtonWidget extends AbstractButton {
 
         guiGraphics.fill(left, top, right, bottom, backgroundColor);
 
-        Map<Integer, Vector2f> letterOffsets = textEffectAnimation.getOffsets(partialTick);
-
         float startX = left + paddingX;
 
         for (int i = 0; i < parsedDialog.cleanedText().length(); i++) {
-            Vector2f offset = letterOffsets.getOrDefault(i, new Vector2f(0, 0));
-            String character = String.valueOf(parsedDialog.cleanedText().charAt(i));
+            String character = LetterBuffer.glyphOf(parsedDialog.cleanedText().charAt(i));
             ((ICustomGuiRender) guiGraphics)
                     .narrativecraft$drawStringFloat(
                             character,
                             Minecraft.getInstance().font,
-                            startX + offset.x,
-                            top + paddingY + 1 + offset.y,
+                            startX + textEffectAnimation.getOffsetX(i, partialTick),
+                            top + paddingY + 1 + textEffectAnimation.getOffsetY(i, partialTick),
                             textColor,
                             false);
             startX += Util.getLetterWidth(parsedDialog.cleanedText().codePointAt(i), minecraft);
@@ -40,11 +40,13 @@ import fr.loudo.narrativecraft.screens.components.ButtonListScreen;
 import fr.loudo.narrativecraft.util.Translation;
 import java.util.ArrayList;
 import java.util.List;
+import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.LivingEntity;
 
 /**
@@ -89,14 +91,7 @@ public class CameraAngleAddTemplateCharacter extends ButtonListScreen {
         Button animationButton = Button.builder(Translation.message("global.animations"), button -> {
                     for (Animation animation : scene.getAnimations()) {
                         Button button1 = Button.builder(Component.literal(animation.getName()), button2 -> {
-                                    NarrativeCraftMod.server.execute(() -> spawnEntity(
-                                            animation,
-                                            animation
-                                                            .getActionsData()
-                                                            .getFirst()
-                                                            .getLocations()
-                                                            .size()
-                                                    - 1));
+                                    spawnEntity(animation, Integer.MAX_VALUE);
                                     minecraft.setScreen(null);
                                 })
                                 .build();
@@ -113,14 +108,7 @@ public class CameraAngleAddTemplateCharacter extends ButtonListScreen {
                     for (Subscene subscene : scene.getSubscenes()) {
                         Button button1 = Button.builder(Component.literal(subscene.getName()), button2 -> {
                                     for (Animation animation : subscene.getAnimations()) {
-                                        spawnEntity(
-                                                animation,
-                                                animation
-                                                                .getActionsData()
-                                                                .getFirst()
-                                                                .getLocations()
-                                                                .size()
-                                                        - 1);
+                                        spawnEntity(animation, Integer.MAX_VALUE);
                                     }
                                     minecraft.setScreen(null);
                                 })
@@ -148,33 +136,11 @@ public class CameraAngleAddTemplateCharacter extends ButtonListScreen {
                                             (lastKeyframe.getTick() + 2 + lastKeyframe.getTransitionDelayTick());
                                     for (Subscene subscene : cutscene.getSubscenes()) {
                                         for (Animation animation : subscene.getAnimations()) {
-                                            NarrativeCraftMod.server.execute(() -> {
-                                                spawnEntity(
-                                                        animation,
-                                                        Math.min(
-                                                                lastLocIndex,
-                                                                animation
-                                                                                .getActionsData()
-                                                                                .getFirst()
-                                                                                .getLocations()
-                                                                                .size()
-                                                                        - 1));
-                                            });
+                                            spawnEntity(animation, lastLocIndex);
                                         }
                                     }
                                     for (Animation animation : cutscene.getAnimations()) {
-                                        NarrativeCraftMod.server.execute(() -> {
-                                            spawnEntity(
-                                                    animation,
-                                                    Math.min(
-                                                            lastLocIndex,
-                                                            animation
-                                                                            .getActionsData()
-                                                                            .getFirst()
-                                                                            .getLocations()
-                                                                            .size()
-                                                                    - 1));
-                                        });
+                                        spawnEntity(animation, lastLocIndex);
                                     }
                                     minecraft.setScreen(null);
                                 })
@@ -237,8 +203,25 @@ public class CameraAngleAddTemplateCharacter extends ButtonListScreen {
         this.addRenderableWidget(doneButton);
     }
 
-    private void spawnEntity(Animation animation, int index) {
-        List<Action> actions = animation.getActionsData().getFirst().getActions().stream()
+    // Tracks are read off the render thread, then the entity is spawned on the server thread
+    private void spawnEntity(Animation animation, int maxTick) {
+        animation
+                .loadActionsData()
+                .thenAcceptAsync(actionsData -> spawnEntity(animation, actionsData, maxTick), NarrativeCraftMod.server);
+    }
+
+    private void spawnEntity(Animation animation, List<ActionsData> actionsData, int maxTick) {
+        ServerPlayer player = cameraAngleController.getPlayerSession().getPlayer();
+        if (actionsData == null
+                || actionsData.isEmpty()
+                || actionsData.getFirst().getLocations().isEmpty()) {
+            player.sendSystemMessage(Translation.message("animation.data_unavailable", animation.getName())
+                    .withStyle(ChatFormatting.RED));
+            return;
+        }
+        ActionsData masterData = actionsData.getFirst();
+        int index = Math.min(maxTick, masterData.getLocations().size() - 1);
+        List<Action> actions = masterData.getActions().stream()
                 .filter(action -> index >= action.getTick()
                         && (action instanceof ItemChangeAction
                                 || action instanceof LivingEntityByteAction
@@ -247,25 +230,18 @@ public class CameraAngleAddTemplateCharacter extends ButtonListScreen {
                 .toList();
         CharacterStoryData characterStoryData = new CharacterStoryData(
                 animation.getCharacter(),
-                animation.getLastLocation(),
+                masterData.getLocations().getLast(),
                 true,
                 cameraAngleController.getCameraAngle().getScene());
-        NarrativeCraftMod.server.execute(() -> {
-            characterStoryData.spawn(
-                    cameraAngleController.getPlayerSession().getPlayer().getLevel(), Environment.DEVELOPMENT);
-            PlaybackData playbackData =
-                    new PlaybackData(animation.getActionsData().getFirst(), null);
-            playbackData.setEntity(characterStoryData.getCharacterRuntime().getEntity());
-            for (Action action : actions) {
-                action.execute(playbackData);
-            }
-            characterStoryData.applyItems(Minecraft.getInstance().level.registryAccess());
-            characterStoryData.applyBytes((LivingEntity) playbackData.getEntity());
-            cameraAngleController.getCharacterStoryDataList().add(characterStoryData);
-            cameraAngleController
-                    .getPlayerSession()
-                    .getCharacterRuntimes()
-                    .add(characterStoryData.getCharacterRuntime());
-        });
+        characterStoryData.spawn(player.getLevel(), Environment.DEVELOPMENT);
+        PlaybackData playbackData = new PlaybackData(masterData, null);
+        playbackData.setEntity(characterStoryData.getCharacterRuntime().getEntity());
+        for (Action action : actions) {
+            action.execute(playbackData);
+        }
+        characterStoryData.applyItems(Minecraft.getInstance().level.registryAccess());
+        characterStoryData.applyBytes((LivingEntity) playbackData.getEntity());
+        cameraAngleController.getCharacterStoryDataList().add(characterStoryData);
+        cameraAngleController.getPlayerSession().getCharacterRuntimes().add(characterStoryData.getCharacterRuntime());
     }
 }
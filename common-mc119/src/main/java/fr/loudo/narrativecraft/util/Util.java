@@ -255,8 +255,13 @@ public class Util {
 
     public static float getLetterWidth(int letterCode, Minecraft minecraft) {
         Font font = minecraft.font;
-        StringSplitter splitter = font.getSplitter();
-        return ((StringSplitterAccessor) splitter).getWidthProvider().getWidth(letterCode, Style.EMPTY);
+        float width = TextLayoutCache.getGlyphAdvance(font, letterCode);
+        if (Float.isNaN(width)) {
+            StringSplitter splitter = font.getSplitter();
+            width = ((StringSplitterAccessor) splitter).getWidthProvider().getWidth(letterCode, Style.EMPTY);
+            TextLayoutCache.putGlyphAdvance(font, letterCode, width);
+        }
+        return width;
     }
 
     public static int[] getImageResolution(ResourceLocation resourceLocation) {
@@ -298,6 +303,8 @@ public class Util {
     }
 
     public static List<String> splitText(String text, Font font, int width) {
+        List<String> cachedLines = TextLayoutCache.getLines(text, font, width);
+        if (cachedLines != null) return cachedLines;
         List<String> finalString = new ArrayList<>();
         List<FormattedCharSequence> charSequences = font.split(FormattedText.of(text), width);
         for (FormattedCharSequence chara : charSequences) {
@@ -308,7 +315,7 @@ public class Util {
             });
             finalString.add(stringBuilder.toString());
         }
-        return finalString;
+        return TextLayoutCache.putLines(text, font, width, finalString);
     }
 
     public static String getLongerTextLine(List<String> lines, Minecraft minecraft) {
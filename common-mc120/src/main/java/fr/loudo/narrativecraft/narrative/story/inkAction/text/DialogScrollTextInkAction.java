@@ -30,13 +30,11 @@ import fr.loudo.narrativecraft.gui.ICustomGuiRender;
 import fr.loudo.narrativecraft.narrative.dialog.animation.AbstractDialogScrollText;
 import fr.loudo.narrativecraft.util.Util;
 import java.util.List;
-import java.util.Map;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
-import org.joml.Vector2f;
 
 /**
  * MC 1.20.x version of DialogScrollTextInkAction.
@@ -182,23 +180,15 @@ public class DialogScrollTextInkAction extends AbstractDialogScrollText {
         poseStack.scale(attribute.getScale(), attribute.getScale(), 1.0f);
         poseStack.translate(textOffsetX, textOffsetY, 0);
 
-        Map<Integer, Vector2f> offsets = getTextEffectOffsets(partialTick);
+        for (int i = 0; i < letters.size(); i++) {
+            if (!letters.isRendered(i)) continue;
 
-        for (int i = 0; i < lettersRenderer.size(); i++) {
-            LetterLocation letter = lettersRenderer.get(i);
-            if (!letter.render()) continue;
-
-            float x = letter.x();
-            float y = letter.y();
-
-            if (offsets.containsKey(i)) {
-                x += offsets.get(i).x;
-                y += offsets.get(i).y;
-            }
+            float x = letters.getX(i) + getTextEffectOffsetX(i, partialTick);
+            float y = letters.getY(i) + getTextEffectOffsetY(i, partialTick);
 
             ((ICustomGuiRender) guiGraphics)
                     .narrativecraft$drawStringFloat(
-                            String.valueOf(letter.letter()),
+                            letters.getGlyph(i),
                             font,
                             x,
                             y,
@@ -104,6 +104,9 @@ public class NarrativeCraftMod {
     private final ChapterManager chapterManager = new ChapterManager();
     private final RecordingManager recordingManager = new RecordingManager();
     private final PlaybackManager playbackManager = new PlaybackManager();
+    private final AnimationCacheManager animationCacheManager = new AnimationCacheManager();
+    private final SkinTextureManager skinTextureManager = new SkinTextureManager();
+    private final StoryCacheManager storyCacheManager = new StoryCacheManager();
     private final NarrativeStateManagerImpl narrativeStateManager = new NarrativeStateManagerImpl();
     private final NarrativeCraftLogoRenderer narrativeCraftLogoRenderer =
             new NarrativeCraftLogoRenderer(NcId.of(NarrativeCraftMod.MOD_ID, "textures/logo.png"));
@@ -138,6 +141,18 @@ public class NarrativeCraftMod {
         return playbackManager;
     }
 
+    public AnimationCacheManager getAnimationCacheManager() {
+        return animationCacheManager;
+    }
+
+    public SkinTextureManager getSkinTextureManager() {
+        return skinTextureManager;
+    }
+
+    public StoryCacheManager getStoryCacheManager() {
+        return storyCacheManager;
+    }
+
     /**
      * Returns the central state manager for the narrative system.
      * Use this to manage state transitions and cleanup handlers.
@@ -171,9 +186,12 @@ public class NarrativeCraftMod {
     public void clearManagers() {
         narrativeStateManager.reset();
         chapterManager.getChapters().clear();
-        playerSessionManager.getPlayerSessions().clear();
+        playerSessionManager.clear();
         characterManager.getCharacterStories().clear();
         recordingManager.getRecordings().clear();
         playbackManager.getPlaybacks().clear();
+        animationCacheManager.clear();
+        skinTextureManager.clear();
+        storyCacheManager.clear();
     }
 }
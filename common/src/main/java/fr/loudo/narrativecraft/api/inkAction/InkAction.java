@@ -69,8 +69,15 @@ public abstract class InkAction {
     public void stop() {}
 
     public final InkActionResult validate(String command, Scene scene) {
+        return validate(command, InkActionUtil.getArguments(command), scene);
+    }
+
+    /**
+     * Validate with arguments already tokenized from {@code command}, e.g. from a cached {@code ParsedTag}.
+     */
+    public final InkActionResult validate(String command, List<String> arguments, Scene scene) {
         this.command = command;
-        InkActionResult result = doValidate(InkActionUtil.getArguments(command), scene);
+        InkActionResult result = doValidate(arguments, scene);
         if (!result.isError()) canBeExecuted = true;
         return result;
     }
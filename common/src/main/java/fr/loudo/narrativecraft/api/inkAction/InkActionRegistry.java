@@ -23,29 +23,101 @@
 
 package fr.loudo.narrativecraft.api.inkAction;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
+/**
+ * Registry of every ink action type.
+ * <p>
+ * Actions registered with their leading keywords ({@code "fade"}, {@code "song"}, ...) are found
+ * with a single hash probe on the first word of the tag. Actions registered without keywords keep
+ * working as fallback matchers, tried in registration order when the keyword probe finds nothing.
+ * Matching is done on a prototype kept from registration, so a new instance is only created for
+ * the action that matched.
+ */
 public class InkActionRegistry {
-    private static final Map<String, Supplier<InkAction>> ACTIONS = new HashMap<>();
+    private static final Map<String, Entry> ACTIONS = new LinkedHashMap<>();
+    private static final Map<String, List<Entry>> BY_KEYWORD = new HashMap<>();
+    private static final List<Entry> FALLBACKS = new ArrayList<>();
 
+    /**
+     * Register an action matched only through its {@link InkAction.CommandMatcher}.
+     * Prefer {@link #register(Supplier, String...)} when the syntax starts with fixed keywords.
+     */
     public static void register(Supplier<InkAction> supplier) {
-        ACTIONS.put(supplier.get().id, supplier);
+        register(supplier, new String[0]);
+    }
+
+    /**
+     * Register an action under the leading keywords of its syntax, e.g. {@code "song", "sfx", "sound"}.
+     * The action's matcher still has the final say once a keyword matched.
+     */
+    public static void register(Supplier<InkAction> supplier, String... keywords) {
+        InkAction prototype = supplier.get();
+        Entry entry = new Entry(supplier, prototype, keywords.clone());
+        Entry previous = ACTIONS.put(prototype.id, entry);
+        if (previous != null) unindex(previous);
+        if (keywords.length == 0) {
+            FALLBACKS.add(entry);
+        } else {
+            for (String keyword : keywords) {
+                BY_KEYWORD.computeIfAbsent(keyword, k -> new ArrayList<>(1)).add(entry);
+            }
+        }
     }
 
     public static InkAction get(String id) {
-        Supplier<InkAction> supplier = ACTIONS.get(id);
-        return supplier != null ? supplier.get() : null;
+        Entry entry = ACTIONS.get(id);
+        return entry != null ? entry.supplier().get() : null;
     }
 
     public static InkAction findByCommand(String command) {
-        for (Supplier<InkAction> supplier : ACTIONS.values()) {
-            InkAction inkAction = supplier.get();
-            if (inkAction.getMatcher().matches(command)) {
-                return inkAction;
+        Supplier<InkAction> factory = findFactory(command);
+        return factory != null ? factory.get() : null;
+    }
+
+    /**
+     * Supplier of the action matching {@code command}, to match a command once and create
+     * its actions later without going through the registry again.
+     */
+    public static Supplier<InkAction> findFactory(String command) {
+        List<Entry> candidates = BY_KEYWORD.get(leadingKeyword(command));
+        if (candidates != null) {
+            for (Entry entry : candidates) {
+                if (entry.matches(command)) return entry.supplier();
             }
         }
+        for (Entry entry : FALLBACKS) {
+            if (entry.matches(command)) return entry.supplier();
+        }
         return null;
     }
+
+    private static String leadingKeyword(String command) {
+        int space = command.indexOf(' ');
+        return space < 0 ? command : command.substring(0, space);
+    }
+
+    private static void unindex(Entry entry) {
+        if (entry.keywords().length == 0) {
+            FALLBACKS.remove(entry);
+            return;
+        }
+        for (String keyword : entry.keywords()) {
+            List<Entry> entries = BY_KEYWORD.get(keyword);
+            if (entries == null) continue;
+            entries.remove(entry);
+            if (entries.isEmpty()) BY_KEYWORD.remove(keyword);
+        }
+    }
+
+    private record Entry(Supplier<InkAction> supplier, InkAction prototype, String[] keywords) {
+        boolean matches(String command) {
+            return prototype.getMatcher().matches(command);
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.controllers.cutscene;
+
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframe;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframeGroup;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.util.Mth;
+
+/**
+ * Smooth camera path of a keyframe group, compiled when a playback starts.
+ * Holds the tick each segment starts at and the Catmull-Rom coefficients of every segment,
+ * so sampling a frame is a binary search and a cubic instead of a walk over the whole group.
+ */
+public class CameraPath {
+
+    // x, y, z, pitch, yaw, roll, fov, each with 4 coefficients per segment
+    private static final int CHANNELS = 7;
+    private static final int STRIDE = CHANNELS * 4;
+
+    private final Map<Integer, Integer> indexById;
+    // segmentStart[i] is the tick, counted from the first keyframe, where keyframe i is left;
+    // the last entry is the tick the path ends at
+    private final int[] segmentStart;
+    private final double[] coefficients;
+    private final KeyframeLocation lastLocation;
+
+    private CameraPath(
+            Map<Integer, Integer> indexById,
+            int[] segmentStart,
+            double[] coefficients,
+            KeyframeLocation lastLocation) {
+        this.indexById = indexById;
+        this.segmentStart = segmentStart;
+        this.coefficients = coefficients;
+        this.lastLocation = lastLocation;
+    }
+
+    public static CameraPath compile(CutsceneKeyframeGroup group) {
+        List<CutsceneKeyframe> keyframes = group.getKeyframes();
+        int size = keyframes.size();
+        Map<Integer, Integer> indexById = new HashMap<>(size * 2);
+        int[] segmentStart = new int[Math.max(size, 1)];
+        double[] coefficients = new double[Math.max(size - 1, 0) * STRIDE];
+
+        for (int i = 0; i < size; i++) {
+            indexById.putIfAbsent(keyframes.get(i).getId(), i);
+        }
+        for (int i = 0; i < size - 1; i++) {
+            CutsceneKeyframe next = keyframes.get(i + 1);
+            int segmentDuration = Math.max((int) (next.getPathTick() / next.getSpeed()), 0);
+            segmentStart[i + 1] = segmentStart[i] + segmentDuration;
+
+            KeyframeLocation p0 = keyframes.get(Math.max(i - 1, 0)).getKeyframeLocation();
+            KeyframeLocation p1 = keyframes.get(i).getKeyframeLocation();
+            KeyframeLocation p2 = next.getKeyframeLocation();
+            KeyframeLocation p3 = keyframes.get(Math.min(i + 2, size - 1)).getKeyframeLocation();
+
+            int base = i * STRIDE;
+            putCoefficients(coefficients, base, p0.getX(), p1.getX(), p2.getX(), p3.getX());
+            putCoefficients(coefficients, base + 4, p0.getY(), p1.getY(), p2.getY(), p3.getY());
+            putCoefficients(coefficients, base + 8, p0.getZ(), p1.getZ(), p2.getZ(), p3.getZ());
+            putCoefficients(coefficients, base + 12, p0.getPitch(), p1.getPitch(), p2.getPitch(), p3.getPitch());
+            putAngleCoefficients(coefficients, base + 16, p0.getYaw(), p1.getYaw(), p2.getYaw(), p3.getYaw());
+            putAngleCoefficients(coefficients, base + 20, p0.getRoll(), p1.getRoll(), p2.getRoll(), p3.getRoll());
+            putCoefficients(coefficients, base + 24, p0.getFov(), p1.getFov(), p2.getFov(), p3.getFov());
+        }
+
+        KeyframeLocation lastLocation = size == 0 ? null : keyframes.getLast().getKeyframeLocation();
+        return new CameraPath(indexById, segmentStart, coefficients, lastLocation);
+    }
+
+    /**
+     * Write the pose {@code elapsedTick} ticks after {@code from} left into {@code out}.
+     * Past the end of the path, or from a keyframe that is not part of it, the pose is the last keyframe.
+     */
+    public KeyframeLocation sample(CutsceneKeyframe from, double elapsedTick, KeyframeLocation out) {
+        Integer startIndex = indexById.get(from.getId());
+        if (startIndex == null) return out.set(lastLocation);
+
+        double target = segmentStart[startIndex] + elapsedTick;
+        int segment = findSegment(startIndex, target);
+        if (segment < 0) return out.set(lastLocation);
+
+        double t = (target - segmentStart[segment]) / (segmentStart[segment + 1] - segmentStart[segment]);
+        int base = segment * STRIDE;
+        out.setX(evaluate(base, t));
+        out.setY(evaluate(base + 4, t));
+        out.setZ(evaluate(base + 8, t));
+        out.setPitch((float) evaluate(base + 12, t));
+        out.setYaw(normalizeAngle((float) evaluate(base + 16, t)));
+        out.setRoll(normalizeAngle((float) evaluate(base + 20, t)));
+        out.setFov((float) evaluate(base + 24, t));
+        return out;
+    }
+
+    /**
+     * Length of the path in ticks, start delays and transitions aside.
+     */
+    public int getDuration() {
+        return segmentStart[segmentStart.length - 1];
+    }
+
+    // First segment from startIndex that ends after target, segments of zero ticks are never picked
+    private int findSegment(int startIndex, double target) {
+        int low = startIndex;
+        int high = segmentStart.length - 2;
+        if (high < low || segmentStart[high + 1] <= target) return -1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStart[mid + 1] > target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private double evaluate(int offset, double t) {
+        return coefficients[offset]
+                + t * (coefficients[offset + 1] + t * (coefficients[offset + 2] + t * coefficients[offset + 3]));
+    }
+
+    // Same curve as MathHelper.catmullRom, expanded once into a + b*t + c*t^2 + d*t^3
+    private static void putCoefficients(double[] into, int offset, double p0, double p1, double p2, double p3) {
+        into[offset] = p1;
+        into[offset + 1] = 0.5 * (-p0 + p2);
+        into[offset + 2] = 0.5 * (2.0 * p0 - 5.0 * p1 + 4.0 * p2 - p3);
+        into[offset + 3] = 0.5 * (-p0 + 3.0 * p1 - 3.0 * p2 + p3);
+    }
+
+    private static void putAngleCoefficients(double[] into, int offset, float a0, float a1, float a2, float a3) {
+        a0 = unwrapAngle(a0, a1);
+        a2 = unwrapAngle(a2, a1);
+        a3 = unwrapAngle(a3, a2);
+        putCoefficients(into, offset, a0, a1, a2, a3);
+    }
+
+    /**
+     * Straight interpolation between two keyframes, written into {@code out}.
+     */
+    public static KeyframeLocation lerp(double delta, KeyframeLocation a, KeyframeLocation b, KeyframeLocation out) {
+        out.setX(Mth.lerp(delta, a.getX(), b.getX()));
+        out.setY(Mth.lerp(delta, a.getY(), b.getY()));
+        out.setZ(Mth.lerp(delta, a.getZ(), b.getZ()));
+        out.setPitch((float) Mth.lerp(delta, a.getPitch(), b.getPitch()));
+        out.setYaw(interpolateAngle(a.getYaw(), b.getYaw(), delta));
+        out.setRoll(interpolateAngle(a.getRoll(), b.getRoll(), delta));
+        out.setFov((float) Mth.lerp(delta, a.getFov(), b.getFov()));
+        return out;
+    }
+
+    static float getShortestAngleDifference(float from, float to) {
+        float diff = to - from;
+        if (diff > 180) {
+            diff -= 360;
+        } else if (diff < -180) {
+            diff += 360;
+        }
+        return diff;
+    }
+
+    static float normalizeAngle(float angle) {
+        while (angle > 180) angle -= 360;
+        while (angle <= -180) angle += 360;
+        return angle;
+    }
+
+    static float interpolateAngle(float from, float to, double t) {
+        float diff = getShortestAngleDifference(from, to);
+        return normalizeAngle(from + (float) (diff * t));
+    }
+
+    private static float unwrapAngle(float angle, float reference) {
+        return reference + getShortestAngleDifference(reference, angle);
+    }
+}
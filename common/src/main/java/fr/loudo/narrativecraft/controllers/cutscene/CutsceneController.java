@@ -160,8 +160,11 @@ public class CutsceneController extends AbstractKeyframeGroupsBase<CutsceneKeyfr
                     .getPlayer()
                     .teleportTo(keyframeLocation.getX(), keyframeLocation.getY(), keyframeLocation.getZ());
         } else if (!playbacks.isEmpty()) {
+            // Tracks were acquired by the playback's start, this doesn't read the file again
             Location location = playbacks.getFirst().getAnimation().getFirstLocation();
-            playerSession.getPlayer().teleportTo(location.x(), location.y(), location.z());
+            if (location != null) {
+                playerSession.getPlayer().teleportTo(location.x(), location.y(), location.z());
+            }
         }
         if (!keyframeGroups.isEmpty()) {
             CutsceneKeyframeGroup keyframeGroup = keyframeGroups.getLast();
@@ -539,6 +542,7 @@ public class CutsceneController extends AbstractKeyframeGroupsBase<CutsceneKeyfr
 
     public void changeTimePosition(int newTick, boolean seamless) {
         currentTick = Math.min(newTick, totalTick);
+        getTriggerScheduler().seek(newTick);
         if (playbacks.isEmpty()) {
             currentTick = newTick;
         }
@@ -0,0 +1,265 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.controllers.cutscene;
+
+import fr.loudo.narrativecraft.controllers.keyframe.KeyframeTriggerScheduler;
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeGroup;
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframe;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframeGroup;
+import fr.loudo.narrativecraft.util.Easing;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.util.Mth;
+
+/**
+ * Cutscene compiled for evaluation: the camera path of each keyframe group, the order segments
+ * are played in and the triggers of the controller's {@link KeyframeTriggerScheduler}. Only reads
+ * keyframes and compiled triggers, so it works the same for a live {@link CutscenePlayback} and headless,
+ * to check or sample a cutscene without a client. Compiled again on every play, so edits made while
+ * paused are picked up.
+ */
+public class CutsceneTimeline {
+
+    /**
+     * Values per pose in {@link #sample}: x, y, z, pitch, yaw, roll, fov.
+     */
+    public static final int SAMPLE_STRIDE = 7;
+
+    private final List<CutsceneKeyframeGroup> keyframeGroups;
+    private final KeyframeTriggerScheduler triggerScheduler;
+    // Paths are compiled the first time they are evaluated
+    private final Map<CutsceneKeyframeGroup, CameraPath> cameraPaths = new IdentityHashMap<>();
+    // Segment order from the first keyframe, resolved on the first tick based query
+    private List<Segment> segments;
+    private int[] segmentStart;
+
+    private CutsceneTimeline(List<CutsceneKeyframeGroup> keyframeGroups, KeyframeTriggerScheduler triggerScheduler) {
+        this.keyframeGroups = keyframeGroups;
+        this.triggerScheduler = triggerScheduler;
+    }
+
+    public static CutsceneTimeline compile(List<CutsceneKeyframeGroup> keyframeGroups) {
+        return new CutsceneTimeline(keyframeGroups, null);
+    }
+
+    /**
+     * Timeline that also answers {@link #triggersAt}, sharing the scheduler the playback fires from.
+     */
+    public static CutsceneTimeline compile(
+            List<CutsceneKeyframeGroup> keyframeGroups, KeyframeTriggerScheduler triggerScheduler) {
+        return new CutsceneTimeline(keyframeGroups, triggerScheduler);
+    }
+
+    /**
+     * Stretch of the camera going from one keyframe to the next, evaluated on the path of {@code group}.
+     */
+    public record Segment(CutsceneKeyframe from, CutsceneKeyframe to, CutsceneKeyframeGroup group) {}
+
+    public CameraPath getCameraPath(CutsceneKeyframeGroup keyframeGroup) {
+        return cameraPaths.computeIfAbsent(keyframeGroup, CameraPath::compile);
+    }
+
+    /**
+     * Segment a cutscene starts with, or null if it has no keyframes.
+     */
+    public Segment firstSegment() {
+        if (keyframeGroups.isEmpty() || keyframeGroups.getFirst().getKeyframes().isEmpty()) return null;
+        CutsceneKeyframeGroup group = keyframeGroups.getFirst();
+        List<CutsceneKeyframe> keyframes = group.getKeyframes();
+        CutsceneKeyframe keyframeA = keyframes.getFirst();
+        return new Segment(keyframeA, keyframes.size() > 1 ? keyframes.get(1) : keyframeA, group);
+    }
+
+    /**
+     * Segment played after {@code segment}, walking into the next group once a group is done.
+     */
+    public Segment nextSegment(Segment segment) {
+        CutsceneKeyframe keyframeA = segment.from();
+        CutsceneKeyframe keyframeB = segment.to();
+        if (segment.group().getKeyframes().size() == 1) {
+            keyframeB = KeyframeGroup.getNextKeyframe(keyframeGroups, keyframeB);
+        }
+        CutsceneKeyframeGroup groupB = KeyframeGroup.getGroupOfKeyframe(keyframeGroups, keyframeB);
+        if (groupB.getKeyframes().size() == 1) {
+            keyframeA = groupB.getKeyframes().getFirst();
+        } else if (segment.group().getId() != groupB.getId()) {
+            keyframeA = groupB.getKeyframes().getFirst();
+            keyframeB = KeyframeGroup.getNextKeyframe(keyframeGroups, keyframeA);
+        } else {
+            keyframeA = keyframeB;
+            keyframeB = KeyframeGroup.getNextKeyframe(keyframeGroups, keyframeB);
+        }
+        return new Segment(keyframeA, keyframeB, KeyframeGroup.getGroupOfKeyframe(keyframeGroups, keyframeB));
+    }
+
+    /**
+     * Ticks the camera stays on {@code segment}: the start delay, the path and, at the end of a group,
+     * the transition delay.
+     */
+    public int getSegmentLength(Segment segment) {
+        int length = segment.from().getStartDelayTick() + segment.to().getPathTick();
+        if (segment.group().isLastKeyframe(segment.to())) {
+            length += segment.to().getTransitionDelayTick();
+        }
+        return length;
+    }
+
+    public boolean isLastSegment(Segment segment) {
+        if (keyframeGroups.isEmpty() || keyframeGroups.getLast().getKeyframes().isEmpty()) return false;
+        return keyframeGroups.getLast().isLastKeyframe(segment.to());
+    }
+
+    /**
+     * Write the camera pose {@code segmentTick} ticks into {@code segment} into {@code out}.
+     */
+    public KeyframeLocation samplePose(Segment segment, double segmentTick, KeyframeLocation out) {
+        CutsceneKeyframe keyframeA = segment.from();
+        CutsceneKeyframe keyframeB = segment.to();
+        if (segmentTick < keyframeA.getStartDelayTick()) {
+            return out.set(keyframeA.getKeyframeLocation());
+        }
+        double elapsedTick = segmentTick - keyframeA.getStartDelayTick();
+        if (keyframeB.getEasing() != Easing.SMOOTH
+                || segment.group().getKeyframes().size() < 2) {
+            double totalDelta = Mth.clamp(elapsedTick / keyframeB.getPathTick(), 0.0, 1.0);
+            return CameraPath.lerp(
+                    keyframeB.getEasing().interpolate(totalDelta) / keyframeB.getSpeed(),
+                    keyframeA.getKeyframeLocation(),
+                    keyframeB.getKeyframeLocation(),
+                    out);
+        }
+        return getCameraPath(segment.group()).sample(keyframeA, elapsedTick, out);
+    }
+
+    /**
+     * Trigger commands fired at cutscene {@code tick}, empty when compiled without a scheduler.
+     */
+    public List<String> triggersAt(int tick) {
+        return triggerScheduler == null ? List.of() : triggerScheduler.triggersAt(tick);
+    }
+
+    /**
+     * Write the camera pose at cutscene {@code tick} into {@code out}, as a playback started from the
+     * first keyframe would show it. Before the start it holds the first keyframe, after the end the last one.
+     */
+    public KeyframeLocation poseAt(double tick, KeyframeLocation out) {
+        int index = getSegmentIndexAt(tick);
+        if (index < 0) {
+            Segment first = firstSegment();
+            return first == null ? null : out.set(first.from().getKeyframeLocation());
+        }
+        Segment segment = segments.get(index);
+        if (index == segments.size() - 1 && tick >= getEndTick()) {
+            return out.set(segment.to().getKeyframeLocation());
+        }
+        return samplePose(segment, tick - segmentStart[index], out);
+    }
+
+    /**
+     * Segment playing at cutscene {@code tick}, or null before the first keyframe.
+     */
+    public Segment getSegmentAt(double tick) {
+        int index = getSegmentIndexAt(tick);
+        return index < 0 ? null : segments.get(index);
+    }
+
+    public int getStartTick() {
+        resolveSegments();
+        return segments.isEmpty() ? 0 : segmentStart[0];
+    }
+
+    public int getEndTick() {
+        resolveSegments();
+        return segmentStart[segmentStart.length - 1];
+    }
+
+    /**
+     * Camera poses from the start to the end tick, {@code samplesPerTick} per tick,
+     * packed {@link #SAMPLE_STRIDE} values per pose.
+     */
+    public double[] sample(int samplesPerTick) {
+        if (samplesPerTick < 1) {
+            throw new IllegalArgumentException("samplesPerTick must be at least 1, got " + samplesPerTick);
+        }
+        resolveSegments();
+        if (segments.isEmpty()) return new double[0];
+        int startTick = getStartTick();
+        int count = (getEndTick() - startTick) * samplesPerTick + 1;
+        double[] samples = new double[count * SAMPLE_STRIDE];
+        KeyframeLocation pose = new KeyframeLocation(0, 0, 0, 0, 0, 0, 0);
+        for (int i = 0; i < count; i++) {
+            poseAt(startTick + (double) i / samplesPerTick, pose);
+            int offset = i * SAMPLE_STRIDE;
+            samples[offset] = pose.getX();
+            samples[offset + 1] = pose.getY();
+            samples[offset + 2] = pose.getZ();
+            samples[offset + 3] = pose.getPitch();
+            samples[offset + 4] = pose.getYaw();
+            samples[offset + 5] = pose.getRoll();
+            samples[offset + 6] = pose.getFov();
+        }
+        return samples;
+    }
+
+    private int getSegmentIndexAt(double tick) {
+        resolveSegments();
+        if (segments.isEmpty() || tick < segmentStart[0]) return -1;
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segmentStart[mid] <= tick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void resolveSegments() {
+        if (segments != null) return;
+        segments = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        Segment segment = firstSegment();
+        int tick = segment == null ? 0 : segment.from().getTick();
+        // Every keyframe is reached in at most two segments, anything more is a malformed cutscene
+        int remaining = 2;
+        for (CutsceneKeyframeGroup keyframeGroup : keyframeGroups) {
+            remaining += keyframeGroup.getKeyframes().size() * 2;
+        }
+        while (segment != null && remaining-- > 0) {
+            segments.add(segment);
+            starts.add(tick);
+            tick += getSegmentLength(segment);
+            if (isLastSegment(segment)) break;
+            segment = nextSegment(segment);
+        }
+        starts.add(tick);
+        segmentStart = starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -28,6 +28,7 @@ import fr.loudo.narrativecraft.controllers.AbstractController;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
 import fr.loudo.narrativecraft.narrative.Environment;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTrigger;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTriggerIndex;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.CharacterInteraction;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.EntityInteraction;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.Interaction;
@@ -53,6 +54,7 @@ public class InteractionController extends AbstractController {
     private final List<AreaTrigger> areaTriggers;
 
     private AreaTrigger areaTriggerEditing;
+    private AreaTriggerIndex areaTriggerIndex;
 
     public InteractionController(Environment environment, Player player, Interaction interaction) {
         super(environment, player);
@@ -199,6 +201,16 @@ public class InteractionController extends AbstractController {
         return areaTriggers;
     }
 
+    /**
+     * Spatial index over {@link #getAreaTriggers()}, rebuilt when a trigger is added, removed or moved.
+     */
+    public AreaTriggerIndex getAreaTriggerIndex() {
+        if (areaTriggerIndex == null || areaTriggerIndex.isStale(areaTriggers)) {
+            areaTriggerIndex = new AreaTriggerIndex(areaTriggers);
+        }
+        return areaTriggerIndex;
+    }
+
     public AreaTrigger getAreaTriggerEditing() {
         return areaTriggerEditing;
     }
@@ -51,6 +51,7 @@ public abstract class AbstractKeyframeController<T extends Keyframe> extends Abs
 
     protected final List<KeyframeTrigger> keyframeTriggers = new ArrayList<>();
     protected final AtomicInteger keyframesCounter = new AtomicInteger();
+    private KeyframeTriggerScheduler triggerScheduler;
 
     public AbstractKeyframeController(Environment environment, Player player) {
         super(environment, player);
@@ -100,12 +101,14 @@ public abstract class AbstractKeyframeController<T extends Keyframe> extends Abs
                 keyframesCounter.incrementAndGet(), tick, commands, getKeyframeLocationFromPlayer());
         keyframeTrigger.showKeyframe(playerSession.getPlayer());
         keyframeTriggers.add(keyframeTrigger);
+        invalidateTriggerScheduler();
     }
 
     @Override
     public void removeKeyframeTrigger(KeyframeTrigger keyframeTrigger) {
         keyframeTriggers.remove(keyframeTrigger);
         keyframeTrigger.hideKeyframe(playerSession.getPlayer());
+        invalidateTriggerScheduler();
     }
 
     public abstract Screen keyframeOptionScreen(Keyframe keyframe, boolean hide);
@@ -113,4 +116,19 @@ public abstract class AbstractKeyframeController<T extends Keyframe> extends Abs
     public List<KeyframeTrigger> getKeyframeTriggers() {
         return keyframeTriggers;
     }
+
+    /**
+     * Triggers of this session compiled and validated against the session's scene for firing, on first
+     * use after the session starts or after a trigger was added, removed or edited.
+     */
+    public KeyframeTriggerScheduler getTriggerScheduler() {
+        if (triggerScheduler == null) {
+            triggerScheduler = KeyframeTriggerScheduler.compile(keyframeTriggers, playerSession.getScene());
+        }
+        return triggerScheduler;
+    }
+
+    public void invalidateTriggerScheduler() {
+        triggerScheduler = null;
+    }
 }
@@ -55,20 +55,7 @@ public abstract class AbstractKeyframeGroupsBase<T extends Keyframe, E extends K
 
     @Override
     public T getNextKeyframe(T toKeyframe) {
-        for (int i = 0; i < keyframeGroups.size(); i++) {
-            KeyframeGroup<T> group = keyframeGroups.get(i);
-            List<T> keyframes = group.getKeyframes();
-            for (int j = 0; j < keyframes.size(); j++) {
-                if (keyframes.get(j).getId() == toKeyframe.getId()) {
-                    if (j + 1 < keyframes.size()) {
-                        return keyframes.get(j + 1);
-                    } else if (i + 1 < keyframeGroups.size()) {
-                        return keyframeGroups.get(i + 1).getKeyframes().getFirst();
-                    }
-                }
-            }
-        }
-        return toKeyframe;
+        return KeyframeGroup.getNextKeyframe(keyframeGroups, toKeyframe);
     }
 
     @Override
@@ -130,14 +117,7 @@ public abstract class AbstractKeyframeGroupsBase<T extends Keyframe, E extends K
     }
 
     public E getKeyframeGroupOfKeyframe(T keyframe) {
-        for (E keyframeGroup : keyframeGroups) {
-            for (T keyframeFromGroup : keyframeGroup.getKeyframes()) {
-                if (keyframe.getId() == keyframeFromGroup.getId()) {
-                    return keyframeGroup;
-                }
-            }
-        }
-        return null;
+        return KeyframeGroup.getGroupOfKeyframe(keyframeGroups, keyframe);
     }
 
     public List<E> getKeyframeGroups() {
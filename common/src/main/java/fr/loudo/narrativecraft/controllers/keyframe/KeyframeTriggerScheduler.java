@@ -0,0 +1,199 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.controllers.keyframe;
+
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
+import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.api.inkAction.InkActionUtil;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.keyframes.keyframeTrigger.KeyframeTrigger;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keyframe triggers of a controller session, compiled into a tick-sorted wheel.
+ * <p>
+ * Commands are split, tokenized, matched to their ink action and validated against the scene once at
+ * compile time, commands that don't validate are left out. The first fire of a command executes the
+ * action validated there. An ink action keeps the state of its run, so a command fired again after a
+ * seek back or a replay gets a new action validated on that fire. Polling the ticks one after the
+ * other is a single comparison, ticks without triggers cost nothing more.
+ */
+public class KeyframeTriggerScheduler {
+
+    // Distinct trigger ticks in ascending order, the commands of ticks[i] are
+    // commands[bucketStart[i]] up to commands[bucketStart[i + 1]]
+    private final int[] ticks;
+    private final int[] bucketStart;
+    private final ScheduledCommand[] commands;
+    private int cursor;
+    private int lastTick = Integer.MIN_VALUE;
+
+    private KeyframeTriggerScheduler(int[] ticks, int[] bucketStart, ScheduledCommand[] commands) {
+        this.ticks = ticks;
+        this.bucketStart = bucketStart;
+        this.commands = commands;
+    }
+
+    public static KeyframeTriggerScheduler compile(List<KeyframeTrigger> keyframeTriggers, Scene scene) {
+        List<KeyframeTrigger> sorted = new ArrayList<>(keyframeTriggers);
+        // Stable, triggers sharing a tick keep the order they were added in
+        sorted.sort(Comparator.comparingInt(KeyframeTrigger::getTick));
+
+        List<Integer> ticks = new ArrayList<>();
+        List<Integer> bucketStart = new ArrayList<>();
+        List<ScheduledCommand> commands = new ArrayList<>();
+        for (KeyframeTrigger keyframeTrigger : sorted) {
+            int commandsBefore = commands.size();
+            for (String command : keyframeTrigger.getCommandsToList()) {
+                Supplier<InkAction> factory = InkActionRegistry.findFactory(command);
+                if (factory == null) continue;
+                List<String> arguments = List.copyOf(InkActionUtil.getArguments(command));
+                InkAction inkAction = factory.get();
+                InkActionResult result = inkAction.validate(command, new ArrayList<>(arguments), scene);
+                if (result.isError()) {
+                    NarrativeCraftMod.LOGGER.warn(
+                            "Keyframe trigger command {} at tick {} is not valid, skipping it",
+                            command,
+                            keyframeTrigger.getTick());
+                    continue;
+                }
+                commands.add(new ScheduledCommand(command, arguments, factory, inkAction));
+            }
+            boolean sameTick = !ticks.isEmpty() && ticks.getLast() == keyframeTrigger.getTick();
+            if (commands.size() > commandsBefore && !sameTick) {
+                ticks.add(keyframeTrigger.getTick());
+                bucketStart.add(commandsBefore);
+            }
+        }
+        bucketStart.add(commands.size());
+
+        return new KeyframeTriggerScheduler(
+                ticks.stream().mapToInt(Integer::intValue).toArray(),
+                bucketStart.stream().mapToInt(Integer::intValue).toArray(),
+                commands.toArray(ScheduledCommand[]::new));
+    }
+
+    /**
+     * Bucket of commands due at {@code tick} for {@link #fire}, or -1 if none are.
+     * Any tick that does not follow the last polled one seeks first.
+     */
+    public int poll(int tick) {
+        if (tick != lastTick + 1) {
+            seek(tick);
+        }
+        lastTick = tick;
+        if (cursor < ticks.length && ticks[cursor] == tick) {
+            return cursor++;
+        }
+        return -1;
+    }
+
+    /**
+     * Move to {@code tick} after a time jump, triggers jumped over are not fired.
+     */
+    public void seek(int tick) {
+        int index = Arrays.binarySearch(ticks, tick);
+        cursor = index >= 0 ? index : -index - 1;
+        lastTick = tick - 1;
+    }
+
+    /**
+     * Execute the commands of a bucket returned by {@link #poll}. Never touches the cursor,
+     * so it can run on the server thread while the client keeps polling.
+     */
+    public void fire(int bucket, PlayerSession playerSession) {
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+            commands[i].execute(playerSession);
+        }
+    }
+
+    /**
+     * Execute every command whatever its tick, in tick order.
+     */
+    public void fireAll(PlayerSession playerSession) {
+        for (ScheduledCommand command : commands) {
+            command.execute(playerSession);
+        }
+    }
+
+    /**
+     * Commands due at {@code tick}, in firing order. Read-only, it doesn't move the cursor and needs no
+     * session, so a cutscene can be checked headless.
+     */
+    public List<String> triggersAt(int tick) {
+        int bucket = Arrays.binarySearch(ticks, tick);
+        if (bucket < 0) return List.of();
+        List<String> triggers = new ArrayList<>(bucketStart[bucket + 1] - bucketStart[bucket]);
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+            triggers.add(commands[i].command());
+        }
+        return triggers;
+    }
+
+    public boolean isEmpty() {
+        return commands.length == 0;
+    }
+
+    private static final class ScheduledCommand {
+
+        private final String command;
+        private final List<String> arguments;
+        private final Supplier<InkAction> factory;
+        // Validated at compile time, taken by the first fire
+        private InkAction validated;
+
+        private ScheduledCommand(
+                String command, List<String> arguments, Supplier<InkAction> factory, InkAction validated) {
+            this.command = command;
+            this.arguments = arguments;
+            this.factory = factory;
+            this.validated = validated;
+        }
+
+        String command() {
+            return command;
+        }
+
+        void execute(PlayerSession playerSession) {
+            InkAction inkAction = validated;
+            validated = null;
+            if (inkAction == null) {
+                inkAction = factory.get();
+                InkActionResult result =
+                        inkAction.validate(command, new ArrayList<>(arguments), playerSession.getScene());
+                if (result.isError()) return;
+            }
+            InkActionResult result = inkAction.execute(playerSession);
+            if (!result.isOk()) return;
+            playerSession.addInkAction(inkAction);
+        }
+    }
+}
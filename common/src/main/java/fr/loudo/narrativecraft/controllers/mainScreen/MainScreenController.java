@@ -23,9 +23,6 @@
 
 package fr.loudo.narrativecraft.controllers.mainScreen;
 
-import fr.loudo.narrativecraft.api.inkAction.InkAction;
-import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
-import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
 import fr.loudo.narrativecraft.controllers.keyframe.AbstractKeyframesBase;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
 import fr.loudo.narrativecraft.narrative.Environment;
@@ -91,17 +88,8 @@ public class MainScreenController extends AbstractKeyframesBase<MainScreenKeyfra
             if (!keyframes.isEmpty()) {
                 playerSession.setCurrentCamera(keyframes.getFirst().getKeyframeLocation());
             }
-            if (!keyframeTriggers.isEmpty()) {
-                List<String> tags = keyframeTriggers.getFirst().getCommandsToList();
-                for (String tag : tags) {
-                    InkAction inkAction = InkActionRegistry.findByCommand(tag);
-                    if (inkAction == null) continue;
-                    InkActionResult result = inkAction.validateAndExecute(tag, playerSession);
-                    if (result.isOk()) {
-                        playerSession.addInkAction(inkAction);
-                    }
-                }
-            }
+            // The main screen keeps a single trigger, fired as soon as it shows
+            getTriggerScheduler().fireAll(playerSession);
             return;
         }
         if (!keyframes.isEmpty()) {
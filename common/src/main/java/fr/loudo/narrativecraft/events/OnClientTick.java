@@ -29,7 +29,6 @@ import fr.loudo.narrativecraft.controllers.cutscene.CutsceneController;
 import fr.loudo.narrativecraft.narrative.interaction.InteractionEyeRenderer;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.util.NarrativeProfiler;
-import java.util.Iterator;
 import net.minecraft.client.Minecraft;
 
 public class OnClientTick {
@@ -57,16 +56,12 @@ public class OnClientTick {
             NarrativeProfiler.stop(NarrativeProfiler.DIALOG);
         }
 
-        // T095: Use Iterator to avoid ArrayList allocation for removal
-        // Before: List<InkAction> toRemove = new ArrayList<>(); + removeAll()
-        // After: Iterator with remove() - zero allocations
+        // Walks the side array taken before the loop, removing an action builds a new one
         NarrativeProfiler.start(NarrativeProfiler.INK_ACTIONS);
-        Iterator<InkAction> iterator = playerSession.getClientSideInkActions().iterator();
-        while (iterator.hasNext()) {
-            InkAction inkAction = iterator.next();
+        for (InkAction inkAction : playerSession.getClientSideInkActions()) {
             inkAction.tick();
             if (!inkAction.isRunning()) {
-                iterator.remove();
+                playerSession.removeInkAction(inkAction);
             }
         }
         NarrativeProfiler.stop(NarrativeProfiler.INK_ACTIONS);
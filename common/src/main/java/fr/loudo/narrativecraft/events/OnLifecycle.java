@@ -25,9 +25,11 @@ package fr.loudo.narrativecraft.events;
 
 import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.files.StorySaveWriter;
 import fr.loudo.narrativecraft.narrative.NarrativeEntryInit;
 import fr.loudo.narrativecraft.narrative.cleanup.NarrativeCleanupService;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import fr.loudo.narrativecraft.narrative.story.inkAction.MinecraftCommandInkAction;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
@@ -41,6 +43,12 @@ public class OnLifecycle {
     }
 
     public static void serverStop(MinecraftServer server) {
+        // Make sure the last story save reaches the disk before the world closes
+        StorySaveWriter.flush();
+
+        // Queued command tags belong to this server, the next one must not inherit them
+        MinecraftCommandInkAction.clearPendingCommands();
+
         // Force cleanup of all narrative state on server stop
         NarrativeCleanupService.onWorldUnload();
 
@@ -30,7 +30,6 @@ import fr.loudo.narrativecraft.controllers.cutscene.CutsceneController;
 import fr.loudo.narrativecraft.controllers.interaction.InteractionController;
 import fr.loudo.narrativecraft.narrative.interaction.InteractionEyeRenderer;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
-import java.util.List;
 import net.minecraft.client.Minecraft;
 
 public class OnRenderWorld {
@@ -54,7 +53,7 @@ public class OnRenderWorld {
             playerSession.getDialogRenderer().render(poseStack, partialTick);
             poseStack.popPose();
         }
-        List<InkAction> inkActionsClient = playerSession.getClientSideInkActions();
+        InkAction[] inkActionsClient = playerSession.getClientSideInkActions();
         for (InkAction inkAction : inkActionsClient) {
             inkAction.partialTick(partialTick);
             poseStack.pushPose();
@@ -25,18 +25,14 @@ package fr.loudo.narrativecraft.events;
 
 import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.api.inkAction.InkAction;
-import fr.loudo.narrativecraft.controllers.interaction.InteractionController;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTrigger;
-import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.CharacterInteraction;
-import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.EntityInteraction;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.StitchInteraction;
 import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
 import fr.loudo.narrativecraft.util.NarrativeProfiler;
-import java.util.Iterator;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
 
 public class OnServerTick {
@@ -54,21 +50,16 @@ public class OnServerTick {
             PlayerSession playerSession =
                     NarrativeCraftMod.getInstance().getPlayerSessionManager().getSessionByPlayer(player);
 
-            // T095: Use Iterator to avoid ArrayList allocation for removal
-            // Before: List<InkAction> toRemove = new ArrayList<>(); + removeAll()
-            // After: Iterator with remove() - zero allocations
-            Iterator<InkAction> iterator =
-                    playerSession.getServerSideInkActions().iterator();
-            while (iterator.hasNext()) {
-                InkAction inkAction = iterator.next();
+            // Walks the side array taken before the loop, removing an action builds a new one
+            for (InkAction inkAction : playerSession.getServerSideInkActions()) {
                 inkAction.tick();
                 if (!inkAction.isRunning()) {
-                    iterator.remove();
+                    playerSession.removeInkAction(inkAction);
                 }
             }
             StoryHandler storyHandler = playerSession.getStoryHandler();
 
-            KeyframeLocation location = playerSession.getCurrentCamera();
+            KeyframeLocation location = playerSession.getSyncCamera();
             if (location != null && playerSession.shouldSyncCamera(location)) {
                 playerSession
                         .getPlayer()
@@ -88,14 +79,10 @@ public class OnServerTick {
             if (!playerSession.isOnGameplay()) continue;
             if (playerSession.getCurrentCamera() != null) continue;
             Vec3 pPosition = playerSession.getPlayer().position();
-            AreaTrigger areaTriggerInside = null;
-            for (InteractionController interactionController : playerSession.getInteractionControllers()) {
-                for (AreaTrigger areaTrigger : interactionController.getAreaTriggers()) {
-                    if (AreaTrigger.isInside(areaTrigger, pPosition)) {
-                        areaTriggerInside = areaTrigger;
-                    }
-                }
-            }
+            // Grid lookup, skipped entirely while the player stays in the same block
+            AreaTrigger areaTriggerInside = playerSession
+                    .getAreaTriggerTracker()
+                    .find(playerSession.getInteractionControllers(), pPosition);
             // What happens:
             // Player enter the area trigger, trigger one time
             // Exit, and when enter the area trigger again if it's not unique, trigger again
@@ -120,59 +107,18 @@ public class OnServerTick {
             }
 
             // If player is looking to an interaction
-            playerSession.setLookingAtEntityId(-1);
-            for (InteractionController interactionController : playerSession.getInteractionControllers()) {
-                for (CharacterInteraction characterInteraction : interactionController.getCharacterInteractions()) {
-                    if (characterInteraction.getStitch().isEmpty()) continue;
-                    if (playerSession.getDialogRenderer() != null
-                            && playerSession.getLastInteraction() != null
-                            && playerSession
-                                    .getLastInteraction()
-                                    .getStitch()
-                                    .equals(characterInteraction.getStitch())) {
-                        continue;
-                    }
-                    if (characterInteraction
-                                    .getCharacterStoryData()
-                                    .getCharacterRuntime()
-                                    .getEntity()
-                            instanceof LivingEntity livingEntity) {
-                        if (pPosition.distanceTo(livingEntity.position()) <= 5.0
-                                && livingEntity.isLookingAtMe(
-                                        player,
-                                        0.2,
-                                        true,
-                                        false,
-                                        livingEntity.getY() + livingEntity.getBbHeight() / 2)) {
-                            playerSession.setLookingAtEntityId(livingEntity.getId());
-                        }
-                    }
-                }
-                for (EntityInteraction entityInteraction : interactionController.getEntityInteractions()) {
-                    if (entityInteraction.getStitch().isEmpty()) continue;
-                    if (playerSession.getDialogRenderer() != null
-                            && playerSession.getLastInteraction() != null
-                            && playerSession.getLastInteraction().getStitch().equals(entityInteraction.getStitch())) {
-                        continue;
-                    }
-                    if (pPosition.distanceTo(entityInteraction.getArmorStand().position()) <= 5.0
-                            && entityInteraction
-                                    .getArmorStand()
-                                    .isLookingAtMe(
-                                            player,
-                                            0.05,
-                                            true,
-                                            false,
-                                            entityInteraction.getArmorStand().getY()
-                                                    + entityInteraction
-                                                                    .getArmorStand()
-                                                                    .getBbHeight()
-                                                            / 2)) {
-                        playerSession.setLookingAtEntityId(
-                                entityInteraction.getArmorStand().getId());
-                    }
-                }
-            }
+            StitchInteraction lastInteraction = playerSession.getLastInteraction();
+            String skippedStitch = playerSession.getDialogRenderer() != null && lastInteraction != null
+                    ? lastInteraction.getStitch()
+                    : null;
+            playerSession.setLookingAtEntityId(playerSession
+                    .getInteractionLookTracker()
+                    .find(
+                            playerSession.getInteractionControllers(),
+                            player,
+                            skippedStitch,
+                            (target, tolerance, targetY) ->
+                                    target.isLookingAtMe(player, tolerance, true, false, targetY)));
         }
     }
 }
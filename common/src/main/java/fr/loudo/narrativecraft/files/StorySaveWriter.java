@@ -0,0 +1,150 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.files;
+
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes story saves on a background thread.
+ *
+ * Saves submitted within {@link NarrativeCraftConstants#SAVE_COALESCE_DELAY_MS} of each other are
+ * merged, only the latest one is written. The file is written next to the target then moved over
+ * it, so an interrupted write leaves the previous save intact. Anything that reads or deletes the
+ * save file calls {@link #flush()} or {@link #discard()} first.
+ */
+public final class StorySaveWriter {
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NarrativeCraft Save Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Object LOCK = new Object();
+    private static PendingSave pending;
+    private static ScheduledFuture<?> scheduled;
+    private static boolean writing;
+
+    private StorySaveWriter() {}
+
+    public static void submit(File target, String content) {
+        synchronized (LOCK) {
+            pending = new PendingSave(target, content);
+            if (scheduled == null) {
+                scheduled = EXECUTOR.schedule(
+                        StorySaveWriter::writePending,
+                        NarrativeCraftConstants.SAVE_COALESCE_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Write the pending save now and wait until it is on disk. Called on server stop.
+     */
+    public static void flush() {
+        synchronized (LOCK) {
+            if (pending == null && !writing) return;
+        }
+        cancelScheduled();
+        await(EXECUTOR.submit(StorySaveWriter::writePending));
+    }
+
+    /**
+     * Drop the pending save and wait for a write in progress, before the save file is deleted.
+     */
+    public static void discard() {
+        synchronized (LOCK) {
+            pending = null;
+        }
+        cancelScheduled();
+        await(EXECUTOR.submit(() -> {}));
+    }
+
+    private static void cancelScheduled() {
+        synchronized (LOCK) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+                scheduled = null;
+            }
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            NarrativeCraftMod.LOGGER.error("Story save writer failed: ", e.getCause());
+        }
+    }
+
+    private static void writePending() {
+        PendingSave save;
+        synchronized (LOCK) {
+            save = pending;
+            pending = null;
+            scheduled = null;
+            if (save == null) return;
+            writing = true;
+        }
+        try {
+            write(save.target().toPath(), save.content());
+        } catch (IOException e) {
+            NarrativeCraftMod.LOGGER.error("Couldn't write story save {}: ", save.target(), e);
+        } finally {
+            synchronized (LOCK) {
+                writing = false;
+            }
+        }
+    }
+
+    private static void write(Path target, String content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record PendingSave(File target, String content) {}
+}
@@ -0,0 +1,247 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.managers;
+
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.narrative.chapter.Chapter;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Weight-bounded cache for the recorded tracks of animations loaded header-only.
+ *
+ * Tracks are read from disk on first use (usually {@code Playback.start()}). Whenever a new
+ * entry comes in, animations of scenes that no player session is in are dropped, then the
+ * least recently used ones until the total weight fits {@link NarrativeCraftConstants#MAX_CACHED_ANIMATION_WEIGHT}.
+ * Loading an animation also prefetches, in the background, the animations of the scene that
+ * comes next in the chapter. Animations acquired by running playbacks are never evicted, so
+ * every playback of an animation shares the same tracks until the last one releases them.
+ */
+public class AnimationCacheManager {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NarrativeCraft Animation Prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Access-ordered: iteration starts with the least recently used entry
+    private final LinkedHashMap<Animation, CachedTracks> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Scene> prefetchedScenes = new HashSet<>();
+    // Number of running playbacks holding each animation
+    private final Map<Animation, Integer> references = new HashMap<>();
+    private long totalWeight;
+    // Bumped by clear() so prefetches started before it drop their results
+    private long generation;
+
+    public List<ActionsData> getActionsData(Animation animation) {
+        synchronized (this) {
+            CachedTracks cached = cache.get(animation);
+            if (cached != null) return cached.actionsData();
+        }
+        List<ActionsData> actionsData = load(animation);
+        if (actionsData == null) return null;
+        List<ActionsData> result;
+        synchronized (this) {
+            CachedTracks cached = cache.get(animation);
+            if (cached == null) {
+                cached = put(animation, actionsData);
+                evict(animation);
+            }
+            result = cached.actionsData();
+        }
+        prefetchNextScene(animation.getScene());
+        return result;
+    }
+
+    /**
+     * Same as {@link #getActionsData(Animation)}, but reads the file on the prefetch thread. Completes with
+     * null if the tracks couldn't be read.
+     */
+    public CompletableFuture<List<ActionsData>> getActionsDataAsync(Animation animation) {
+        return CompletableFuture.supplyAsync(() -> getActionsData(animation), PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Same as {@link #getActionsData(Animation)}, but keeps the tracks cached until {@link #release(Animation)}.
+     */
+    public List<ActionsData> acquire(Animation animation) {
+        List<ActionsData> actionsData = getActionsData(animation);
+        if (actionsData == null) return null;
+        synchronized (this) {
+            references.merge(animation, 1, Integer::sum);
+            // Evicted by another load in between, put it back so the next start shares it
+            if (!cache.containsKey(animation)) {
+                put(animation, actionsData);
+            }
+        }
+        return actionsData;
+    }
+
+    public synchronized void release(Animation animation) {
+        references.computeIfPresent(animation, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public synchronized boolean isAcquired(Animation animation) {
+        return references.containsKey(animation);
+    }
+
+    public synchronized boolean isCached(Animation animation) {
+        return cache.containsKey(animation);
+    }
+
+    public synchronized void invalidate(Animation animation) {
+        CachedTracks cached = cache.remove(animation);
+        if (cached != null) totalWeight -= cached.weight();
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        prefetchedScenes.clear();
+        references.clear();
+        totalWeight = 0;
+        generation++;
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    private List<ActionsData> load(Animation animation) {
+        try {
+            return NarrativeCraftFile.readAnimationData(animation);
+        } catch (IOException e) {
+            NarrativeCraftMod.LOGGER.error("Couldn't load animation data of {}", animation.getName(), e);
+            return null;
+        }
+    }
+
+    private CachedTracks put(Animation animation, List<ActionsData> actionsData) {
+        CachedTracks cached = new CachedTracks(actionsData, weightOf(actionsData));
+        cache.put(animation, cached);
+        totalWeight += cached.weight();
+        return cached;
+    }
+
+    private static long weightOf(List<ActionsData> actionsData) {
+        long weight = 0;
+        for (ActionsData data : actionsData) {
+            weight += data.getLocations().getRunCount() + data.getActions().size();
+        }
+        return weight;
+    }
+
+    private void evict(Animation keep) {
+        Set<Scene> keptScenes = activeScenes();
+        Iterator<Map.Entry<Animation, CachedTracks>> iterator =
+                cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Animation, CachedTracks> entry = iterator.next();
+            if (entry.getKey() == keep
+                    || references.containsKey(entry.getKey())
+                    || keptScenes.contains(entry.getKey().getScene())) continue;
+            totalWeight -= entry.getValue().weight();
+            iterator.remove();
+        }
+        iterator = cache.entrySet().iterator();
+        while (totalWeight > NarrativeCraftConstants.MAX_CACHED_ANIMATION_WEIGHT && iterator.hasNext()) {
+            Map.Entry<Animation, CachedTracks> entry = iterator.next();
+            if (entry.getKey() == keep || references.containsKey(entry.getKey())) continue;
+            totalWeight -= entry.getValue().weight();
+            iterator.remove();
+        }
+        prefetchedScenes.retainAll(keptScenes);
+    }
+
+    // Scenes players are in, plus the scene right after each of them
+    private Set<Scene> activeScenes() {
+        Set<Scene> scenes = new HashSet<>();
+        for (PlayerSession playerSession :
+                NarrativeCraftMod.getInstance().getPlayerSessionManager().getPlayerSessions()) {
+            Scene scene = playerSession.getScene();
+            if (scene == null) continue;
+            scenes.add(scene);
+            Scene nextScene = nextScene(scene);
+            if (nextScene != null) scenes.add(nextScene);
+        }
+        return scenes;
+    }
+
+    private void prefetchNextScene(Scene scene) {
+        if (scene == null) return;
+        Scene nextScene = nextScene(scene);
+        if (nextScene == null) return;
+        long startGeneration;
+        synchronized (this) {
+            if (!prefetchedScenes.add(nextScene)) return;
+            startGeneration = generation;
+        }
+        List<Animation> animations = List.copyOf(nextScene.getAnimations());
+        PREFETCH_EXECUTOR.execute(() -> {
+            for (Animation animation : animations) {
+                if (animation.isDataLoaded() || animation.getDataFile() == null) continue;
+                synchronized (this) {
+                    if (cache.containsKey(animation)) continue;
+                }
+                List<ActionsData> actionsData = load(animation);
+                if (actionsData == null) continue;
+                long weight = weightOf(actionsData);
+                synchronized (this) {
+                    if (generation != startGeneration) return;
+                    if (cache.containsKey(animation)) continue;
+                    // Prefetching never evicts, it only fills the room left in the budget
+                    if (totalWeight + weight > NarrativeCraftConstants.MAX_CACHED_ANIMATION_WEIGHT) continue;
+                    cache.put(animation, new CachedTracks(actionsData, weight));
+                    totalWeight += weight;
+                }
+            }
+        });
+    }
+
+    private Scene nextScene(Scene scene) {
+        Chapter chapter = scene.getChapter();
+        if (chapter == null) return null;
+        List<Scene> scenes = chapter.getSortedSceneList();
+        int index = scenes.indexOf(scene);
+        if (index >= 0 && index + 1 < scenes.size()) {
+            return scenes.get(index + 1);
+        }
+        Chapter nextChapter = NarrativeCraftMod.getInstance()
+                .getChapterManager()
+                .getChapterByIndex(chapter.getIndex() + 1);
+        if (nextChapter == null || nextChapter.getSortedSceneList().isEmpty()) return null;
+        return nextChapter.getSortedSceneList().getFirst();
+    }
+
+    private record CachedTracks(List<ActionsData> actionsData, long weight) {}
+}
@@ -24,35 +24,79 @@
 package fr.loudo.narrativecraft.managers;
 
 import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.narrative.session.IPlayerSessionHolder;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.world.entity.player.Player;
 
 public class PlayerSessionManager {
 
-    private final List<PlayerSession> playerSessions = new ArrayList<>();
+    // Keyed by player UUID, read from the client thread as well as the server thread
+    private final Map<UUID, PlayerSession> playerSessions = new ConcurrentHashMap<>();
 
     public void addSession(PlayerSession playerSession) {
-        if (playerSessions.contains(playerSession)) return;
-        playerSessions.add(playerSession);
-        NarrativeCraftMod.LOGGER.info(playerSessions.toString());
+        if (playerSessions.putIfAbsent(playerSession.getPlayer().getUUID(), playerSession) != null) return;
+        attach(playerSession.getPlayer(), playerSession);
+        NarrativeCraftMod.LOGGER.info(playerSessions.values().toString());
     }
 
     public void removeSession(PlayerSession playerSession) {
-        playerSessions.remove(playerSession);
+        playerSessions.remove(playerSession.getPlayer().getUUID(), playerSession);
+        detach(playerSession.getPlayer(), playerSession);
+    }
+
+    /**
+     * Remove the session of a disconnecting player, whichever player instance it was created with.
+     */
+    public PlayerSession removeSession(Player player) {
+        PlayerSession playerSession = playerSessions.remove(player.getUUID());
+        if (playerSession == null) return null;
+        detach(player, playerSession);
+        detach(playerSession.getPlayer(), playerSession);
+        return playerSession;
     }
 
     public PlayerSession getSessionByPlayer(Player player) {
-        for (PlayerSession playerSession : playerSessions) {
-            if (playerSession.isSamePlayer(player)) {
-                return playerSession;
-            }
+        if (player == null) return null;
+        // Server players hold their session directly, the map is only hit once per player instance
+        if (player instanceof IPlayerSessionHolder holder) {
+            PlayerSession playerSession = holder.narrativecraft$getPlayerSession();
+            if (playerSession != null) return playerSession;
+            playerSession = playerSessions.get(player.getUUID());
+            if (playerSession != null) holder.narrativecraft$setPlayerSession(playerSession);
+            return playerSession;
         }
-        return null;
+        return playerSessions.get(player.getUUID());
+    }
+
+    public PlayerSession getSessionByUUID(UUID uuid) {
+        return playerSessions.get(uuid);
     }
 
-    public List<PlayerSession> getPlayerSessions() {
-        return playerSessions;
+    public Collection<PlayerSession> getPlayerSessions() {
+        return playerSessions.values();
+    }
+
+    public void clear() {
+        for (PlayerSession playerSession : playerSessions.values()) {
+            detach(playerSession.getPlayer(), playerSession);
+        }
+        playerSessions.clear();
+    }
+
+    private static void attach(Player player, PlayerSession playerSession) {
+        if (player instanceof IPlayerSessionHolder holder) {
+            holder.narrativecraft$setPlayerSession(playerSession);
+        }
+    }
+
+    private static void detach(Player player, PlayerSession playerSession) {
+        if (player instanceof IPlayerSessionHolder holder
+                && holder.narrativecraft$getPlayerSession() == playerSession) {
+            holder.narrativecraft$setPlayerSession(null);
+        }
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.managers;
+
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.compat.api.NcId;
+import fr.loudo.narrativecraft.compat.api.VersionAdapterLoader;
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Reference counts of the character skin textures registered on the client.
+ *
+ * Every character runtime caching its skins goes through here, so a skin file is only read,
+ * decoded and registered again when it changed on disk (last modified time or size), not
+ * each time a playback of the same character starts or loops. The texture is released once
+ * the last runtime holding it lets go.
+ */
+public class SkinTextureManager {
+
+    private final Map<String, CachedSkin> skins = new HashMap<>();
+
+    /**
+     * Take a reference on the texture at {@code path}, returns true if it has to be (re)loaded from {@code file}.
+     */
+    public synchronized boolean acquire(String path, File file) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        CachedSkin cached = skins.get(path);
+        if (cached == null) {
+            skins.put(path, new CachedSkin(file, lastModified, length));
+            return true;
+        }
+        cached.references++;
+        if (cached.file.equals(file) && cached.lastModified == lastModified && cached.length == length) {
+            return false;
+        }
+        cached.file = file;
+        cached.lastModified = lastModified;
+        cached.length = length;
+        return true;
+    }
+
+    /**
+     * Drop a reference on the texture at {@code path}, returns true if it was the last one
+     * and the texture can be released.
+     */
+    public synchronized boolean release(String path) {
+        CachedSkin cached = skins.get(path);
+        if (cached == null) return false;
+        if (--cached.references > 0) return false;
+        skins.remove(path);
+        return true;
+    }
+
+    public synchronized int getReferences(String path) {
+        CachedSkin cached = skins.get(path);
+        return cached == null ? 0 : cached.references;
+    }
+
+    /**
+     * Drop every reference and release the textures that are still registered.
+     */
+    public void clear() {
+        List<String> paths;
+        synchronized (this) {
+            paths = List.copyOf(skins.keySet());
+            skins.clear();
+        }
+        for (String path : paths) {
+            releaseTexture(path);
+        }
+    }
+
+    /**
+     * Release the texture registered at {@code path}, on the client thread.
+     */
+    public static void releaseTexture(String path) {
+        Minecraft.getInstance().execute(() -> {
+            NcId ncId = NcId.of(NarrativeCraftMod.MOD_ID, path);
+            VersionAdapterLoader.getAdapter().getUtilCompat().releaseTexture(ncId);
+        });
+    }
+
+    private static final class CachedSkin {
+        private File file;
+        private long lastModified;
+        private long length;
+        private int references = 1;
+
+        private CachedSkin(File file, long lastModified, long length) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.managers;
+
+import com.bladecoder.ink.runtime.ListDefinition;
+import com.bladecoder.ink.runtime.Story;
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps the compiled ink story parsed once for the whole process.
+ *
+ * The content tree read from the build folder's story file is shared, each call to
+ * {@link #newStory()} wraps it in a new {@link Story} with its own state. The file is checked
+ * on every call: a new modification time or size triggers a re-read, and the tree is only
+ * parsed again if the content hash changed.
+ */
+public class StoryCacheManager {
+
+    private CompiledStory compiledStory;
+
+    public synchronized Story newStory() throws Exception {
+        CompiledStory compiled = getCompiledStory();
+        Story story = new Story(compiled.prototype().getMainContentContainer(), compiled.lists());
+        story.resetState();
+        return story;
+    }
+
+    public synchronized void clear() {
+        compiledStory = null;
+    }
+
+    private CompiledStory getCompiledStory() throws Exception {
+        File storyFile = NarrativeCraftFile.getStoryFile();
+        long lastModified = storyFile.lastModified();
+        long length = storyFile.length();
+        if (compiledStory != null
+                && compiledStory.lastModified() == lastModified
+                && compiledStory.length() == length) {
+            return compiledStory;
+        }
+        byte[] content = Files.readAllBytes(storyFile.toPath());
+        long hash = hash(content);
+        if (compiledStory != null && compiledStory.hash() == hash) {
+            compiledStory = new CompiledStory(
+                    compiledStory.prototype(), compiledStory.lists(), hash, lastModified, length);
+            return compiledStory;
+        }
+        Story prototype = new Story(new String(content, StandardCharsets.UTF_8));
+        List<ListDefinition> lists = prototype.getListDefinitions() != null
+                ? prototype.getListDefinitions().getLists()
+                : null;
+        compiledStory = new CompiledStory(prototype, lists, hash, lastModified, length);
+        NarrativeCraftMod.LOGGER.debug("Compiled story loaded ({} bytes)", content.length);
+        return compiledStory;
+    }
+
+    private static long hash(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return crc.getValue() ^ ((long) content.length << 32);
+    }
+
+    private record CompiledStory(
+            Story prototype, List<ListDefinition> lists, long hash, long lastModified, long length) {}
+}
@@ -27,7 +27,6 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.api.inkAction.InkAction;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.inkAction.ChangeDayTimeInkAction;
-import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import org.spongepowered.asm.mixin.Mixin;
@@ -43,7 +42,7 @@ public class ClientLevelMixin {
                 .getPlayerSessionManager()
                 .getSessionByPlayer(Minecraft.getInstance().player);
         if (playerSession == null) return;
-        List<InkAction> inkActionsClient = playerSession.getClientSideInkActions();
+        InkAction[] inkActionsClient = playerSession.getClientSideInkActions();
         for (InkAction inkAction : inkActionsClient) {
             if (inkAction instanceof ChangeDayTimeInkAction changeDayTimeInkAction) {
                 cir.setReturnValue(changeDayTimeInkAction.getTick());
@@ -29,7 +29,6 @@ import fr.loudo.narrativecraft.api.inkAction.InkAction;
 import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.inkAction.ShakeScreenInkAction;
-import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.client.renderer.GameRenderer;
@@ -64,11 +63,10 @@ public class GameRendererMixin {
         PlayerSession playerSession =
                 NarrativeCraftMod.getInstance().getPlayerSessionManager().getSessionByPlayer(player);
         if (playerSession == null) return;
-        List<InkAction> inkActionsShake = playerSession.getClientSideInkActions().stream()
-                .filter(inkAction -> inkAction instanceof ShakeScreenInkAction)
-                .toList();
-        for (InkAction shakeScreenInkAction : inkActionsShake) {
-            shakeScreenInkAction.render(poseStack, partialTicks);
+        for (InkAction inkAction : playerSession.getClientSideInkActions()) {
+            if (inkAction instanceof ShakeScreenInkAction) {
+                inkAction.render(poseStack, partialTicks);
+            }
         }
     }
 }
@@ -27,6 +27,8 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
 import fr.loudo.narrativecraft.screens.mainScreen.MainScreen;
+import fr.loudo.narrativecraft.util.TextLayoutCache;
+import java.util.concurrent.CompletableFuture;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.player.LocalPlayer;
@@ -76,6 +78,11 @@ public abstract class MinecraftCommonMixin {
         }
     }
 
+    @Inject(method = "reloadResourcePacks()Ljava/util/concurrent/CompletableFuture;", at = @At("RETURN"))
+    private void narrativecraft$reloadResourcePacks(CallbackInfoReturnable<CompletableFuture<Void>> cir) {
+        TextLayoutCache.clearAfter(cir.getReturnValue());
+    }
+
     @Inject(method = "startAttack", at = @At("HEAD"), cancellable = true)
     private void narrativecraft$startAttack(CallbackInfoReturnable<Boolean> cir) {
         PlayerSession playerSession =
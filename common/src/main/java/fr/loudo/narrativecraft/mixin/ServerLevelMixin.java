@@ -30,12 +30,14 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ServerLevel.class)
 public class ServerLevelMixin {
@@ -55,4 +57,12 @@ public class ServerLevelMixin {
             recording.getActionDataFromEntity(player).addAction(destroyBlockStageAction);
         }
     }
+
+    @Inject(method = "addFreshEntity", at = @At(value = "RETURN"))
+    private void narrativecraft$onAddFreshEntity(Entity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (!cir.getReturnValue()) return;
+        for (Recording recording : NarrativeCraftMod.getInstance().getRecordingManager().getRecordings()) {
+            recording.onEntityAdded(entity);
+        }
+    }
 }
@@ -28,18 +28,23 @@ import fr.loudo.narrativecraft.narrative.recording.Recording;
 import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
 import fr.loudo.narrativecraft.narrative.recording.actions.ItemPickUpAction;
 import fr.loudo.narrativecraft.narrative.recording.actions.RidingAction;
+import fr.loudo.narrativecraft.narrative.session.IPlayerSessionHolder;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ServerPlayer.class)
-public class ServerPlayerCommonMixin {
+public class ServerPlayerCommonMixin implements IPlayerSessionHolder {
+
+    @Unique
+    private PlayerSession narrativecraft$playerSession;
 
     @Inject(method = "startRiding", at = @At(value = "HEAD"))
     private void narrativecraft$rideEntity(
@@ -73,4 +78,14 @@ public class ServerPlayerCommonMixin {
         if (playerSession == null) return;
         if (playerSession.getCurrentCamera() != null) ci.cancel();
     }
+
+    @Override
+    public PlayerSession narrativecraft$getPlayerSession() {
+        return narrativecraft$playerSession;
+    }
+
+    @Override
+    public void narrativecraft$setPlayerSession(PlayerSession playerSession) {
+        narrativecraft$playerSession = playerSession;
+    }
 }
@@ -47,13 +47,24 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 public class NarrativeEntryInit {
 
     public static boolean hasError;
 
+    // Gson is thread-safe, scene-independent instances are shared by every loader thread
+    private static final Gson GSON = new Gson();
+    private static final Gson CHARACTER_GSON = new GsonBuilder()
+            .registerTypeAdapter(CharacterStory.class, new CharacterSerializer())
+            .create();
+
     public static void init() {
         hasError = false;
         NarrativeCraftMod.getInstance().clearManagers();
@@ -69,6 +80,12 @@ public class NarrativeEntryInit {
         }
     }
 
+    /**
+     * Scenes are loaded in parallel on a fork-join pool; inside a scene, animation files are
+     * also read in parallel. Results are joined back in directory order, so chapters and scenes
+     * end up in the managers exactly as a sequential load would put them, and the first
+     * failure (in that same order) is rethrown to {@link #init()}.
+     */
     private static void initChapters() throws Exception {
         File chaptersFolder = NarrativeCraftFile.chaptersDirectory;
         if (chaptersFolder == null || !chaptersFolder.exists() || !chaptersFolder.isDirectory()) {
@@ -78,54 +95,81 @@ public class NarrativeEntryInit {
         File[] chaptersSubFolder = chaptersFolder.listFiles();
         if (chaptersSubFolder == null) return;
         ChapterManager chapterManager = NarrativeCraftMod.getInstance().getChapterManager();
-        Gson gson = new Gson();
-        for (File chapterFolder : chaptersSubFolder) {
-            String dataContent = Files.readString(
-                    NarrativeCraftFile.getDataFile(chapterFolder).toPath());
-            Chapter chapterData = gson.fromJson(dataContent, Chapter.class);
-            int index = Integer.parseInt(chapterFolder.getName());
-            Chapter chapter = new Chapter(chapterData.getName(), chapterData.getDescription(), index);
-            chapterManager.addChapter(chapter);
-            initScenesOfChapter(chapter);
+        ForkJoinPool pool = createLoaderPool();
+        try {
+            List<Chapter> chapters = new ArrayList<>();
+            List<List<ForkJoinTask<Scene>>> sceneTasks = new ArrayList<>();
+            for (File chapterFolder : chaptersSubFolder) {
+                String dataContent = Files.readString(
+                        NarrativeCraftFile.getDataFile(chapterFolder).toPath());
+                Chapter chapterData = GSON.fromJson(dataContent, Chapter.class);
+                int index = Integer.parseInt(chapterFolder.getName());
+                Chapter chapter = new Chapter(chapterData.getName(), chapterData.getDescription(), index);
+                chapters.add(chapter);
+                sceneTasks.add(submitScenesOfChapter(pool, chapter));
+            }
+            for (int i = 0; i < chapters.size(); i++) {
+                Chapter chapter = chapters.get(i);
+                chapterManager.addChapter(chapter);
+                for (ForkJoinTask<Scene> task : sceneTasks.get(i)) {
+                    chapter.addScene(join(task));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
         }
     }
 
-    private static void initScenesOfChapter(Chapter chapter) throws Exception {
+    private static List<ForkJoinTask<Scene>> submitScenesOfChapter(ForkJoinPool pool, Chapter chapter) {
         File scenesDirectory = NarrativeCraftFile.getScenesFolder(chapter);
         File[] scenesFolder = scenesDirectory.listFiles();
-        if (scenesFolder == null) return;
-        Gson gson = new Gson();
+        if (scenesFolder == null) return List.of();
+        List<ForkJoinTask<Scene>> tasks = new ArrayList<>(scenesFolder.length);
         for (File sceneFolder : scenesFolder) {
-            File dataFile = NarrativeCraftFile.getDataFileFromSceneFolder(sceneFolder);
-            String dataContent = Files.readString(dataFile.toPath());
-            Scene sceneData = gson.fromJson(dataContent, Scene.class);
-            if (sceneData.getRank() <= 0) {
-                throw new Exception(String.format(
-                        "Scene %s from chapter %s rank is equal to or less than 0.",
-                        sceneData.name, chapter.getIndex()));
-            }
-            Scene scene = new Scene(sceneData.getName(), sceneData.getDescription(), chapter);
-            scene.setRank(sceneData.getRank());
-            initNpcs(scene);
-            initAnimations(scene);
-            initSubscenes(scene);
-            initCutscenes(scene);
-            initCameraAngleGroups(scene);
-            initInteraction(scene);
-            chapter.addScene(scene);
+            tasks.add(pool.submit(() -> initScene(chapter, sceneFolder)));
         }
+        return tasks;
     }
 
-    private static void initAnimations(Scene scene) throws IOException {
+    private static Scene initScene(Chapter chapter, File sceneFolder) throws Exception {
+        File dataFile = NarrativeCraftFile.getDataFileFromSceneFolder(sceneFolder);
+        String dataContent = Files.readString(dataFile.toPath());
+        Scene sceneData = GSON.fromJson(dataContent, Scene.class);
+        if (sceneData.getRank() <= 0) {
+            throw new Exception(String.format(
+                    "Scene %s from chapter %s rank is equal to or less than 0.", sceneData.name, chapter.getIndex()));
+        }
+        Scene scene = new Scene(sceneData.getName(), sceneData.getDescription(), chapter);
+        scene.setRank(sceneData.getRank());
+        // Order matters: animations resolve NPCs, subscenes and cutscenes resolve animations
+        initNpcs(scene);
+        initAnimations(scene);
+        initSubscenes(scene);
+        initCutscenes(scene);
+        initCameraAngleGroups(scene);
+        initInteraction(scene);
+        return scene;
+    }
+
+    private static void initAnimations(Scene scene) throws Exception {
         File animationFolder = NarrativeCraftFile.getAnimationsFolder(scene);
         File[] animationsFile = animationFolder.listFiles();
         if (animationsFile == null) return;
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(Animation.class, new AnimationSerializer(scene))
-                .create();
+        List<ForkJoinTask<Animation>> tasks = new ArrayList<>(animationsFile.length);
         for (File animationFile : animationsFile) {
-            String content = Files.readString(animationFile.toPath());
-            Animation animation = gson.fromJson(content, Animation.class);
+            // A JSON file left next to its binary one was already migrated, the binary file wins
+            if (NarrativeCraftFile.hasBinaryAnimationFile(animationFile)) continue;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                Animation animation = NarrativeCraftFile.readAnimationHeader(animationFile, scene);
+                if (animation == null) return null;
+                // Worlds created before the binary format are converted on first load
+                NarrativeCraftFile.migrateAnimationFile(animationFile, animation);
+                return animation;
+            }));
+        }
+        tasks.forEach(ForkJoinTask::fork);
+        for (ForkJoinTask<Animation> task : tasks) {
+            Animation animation = join(task);
             if (animation == null) continue;
             scene.getAnimations().add(animation);
         }
@@ -159,10 +203,7 @@ public class NarrativeEntryInit {
         File cameraAngleGroupsFile = NarrativeCraftFile.getCameraAngelGroupFile(scene);
         String content = Files.readString(cameraAngleGroupsFile.toPath());
         Type type = new TypeToken<List<CameraAngle>>() {}.getType();
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(CharacterStoryData.class, new CharacterStoryDataSerializer(scene))
-                .create();
-        List<CameraAngle> cameraAngleGroups = gson.fromJson(content, type);
+        List<CameraAngle> cameraAngleGroups = sceneCharacterGson(scene).fromJson(content, type);
         if (cameraAngleGroups == null) return;
         cameraAngleGroups.forEach(group -> group.setScene(scene));
         scene.getCameraAngles().addAll(cameraAngleGroups);
@@ -172,25 +213,25 @@ public class NarrativeEntryInit {
         File interactionFile = NarrativeCraftFile.getInteractionFile(scene);
         String content = Files.readString(interactionFile.toPath());
         Type type = new TypeToken<List<Interaction>>() {}.getType();
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(CharacterStoryData.class, new CharacterStoryDataSerializer(scene))
-                .create();
-        List<Interaction> interactions = gson.fromJson(content, type);
+        List<Interaction> interactions = sceneCharacterGson(scene).fromJson(content, type);
         if (interactions == null) return;
         interactions.forEach(interaction -> interaction.setScene(scene));
         scene.setInteractions(interactions);
     }
 
+    private static Gson sceneCharacterGson(Scene scene) {
+        return new GsonBuilder()
+                .registerTypeAdapter(CharacterStoryData.class, new CharacterStoryDataSerializer(scene))
+                .create();
+    }
+
     private static void initNpcs(Scene scene) throws Exception {
         File[] npcsFolder = NarrativeCraftFile.getNpcFolder(scene).listFiles();
         if (npcsFolder == null) return;
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(CharacterStory.class, new CharacterSerializer())
-                .create();
         for (File characterFolder : npcsFolder) {
             File dataFile = NarrativeCraftFile.getDataFile(characterFolder);
             String dataContent = Files.readString(dataFile.toPath());
-            CharacterStory characterStory = gson.fromJson(dataContent, CharacterStory.class);
+            CharacterStory characterStory = CHARACTER_GSON.fromJson(dataContent, CharacterStory.class);
             if (characterStory == null) {
                 throw new Exception(String.format(
                         "NPC %s of scene %s couldn't be initialized", characterFolder.getName(), scene.getName()));
@@ -200,17 +241,49 @@ public class NarrativeEntryInit {
         }
     }
 
+    private static ForkJoinPool createLoaderPool() {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ClassLoader classLoader = NarrativeEntryInit.class.getClassLoader();
+        return new ForkJoinPool(
+                parallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread =
+                            ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("NarrativeCraft Story Loader-" + thread.getPoolIndex());
+                    // Mod loaders resolve mod classes through their own class loader
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    /**
+     * Wait for a loader task and rethrow its original exception, so errors surface
+     * in {@link #init()} the same way they did with the sequential load.
+     */
+    private static <T> T join(ForkJoinTask<T> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // Fork-join wraps checked exceptions in plain RuntimeExceptions, possibly more than once
+            while (cause != null && cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception exception) throw exception;
+            throw e;
+        }
+    }
+
     private static void initCharacters() throws Exception {
         File[] charactersFolder = NarrativeCraftFile.characterDirectory.listFiles();
         if (charactersFolder == null) return;
         CharacterManager characterManager = NarrativeCraftMod.getInstance().getCharacterManager();
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(CharacterStory.class, new CharacterSerializer())
-                .create();
         for (File characterFolder : charactersFolder) {
             File dataFile = NarrativeCraftFile.getDataFile(characterFolder);
             String dataContent = Files.readString(dataFile.toPath());
-            CharacterStory characterStory = gson.fromJson(dataContent, CharacterStory.class);
+            CharacterStory characterStory = CHARACTER_GSON.fromJson(dataContent, CharacterStory.class);
             if (characterStory == null) {
                 throw new Exception(String.format("Character %s couldn't be initialized", characterFolder.getName()));
             }
@@ -23,29 +23,47 @@
 
 package fr.loudo.narrativecraft.narrative.chapter.scene.data;
 
+import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
 import fr.loudo.narrativecraft.narrative.chapter.scene.SceneData;
 import fr.loudo.narrativecraft.narrative.character.CharacterStory;
 import fr.loudo.narrativecraft.narrative.recording.Location;
 import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import java.io.File;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class Animation extends SceneData {
 
     private transient CharacterStory character;
     private String skinName = "main.png";
     private List<ActionsData> actionsData;
+    // Set when only the header was loaded, tracks are fetched through the animation cache
+    private transient File dataFile;
+    private transient int tickLength;
 
     public Animation(String name, Scene scene) {
         super(name, "", scene);
     }
 
+    /**
+     * First recorded location of the main entity, or null if the tracks couldn't be loaded or are empty.
+     */
     public Location getFirstLocation() {
-        return actionsData.getFirst().getLocations().getFirst();
+        List<ActionsData> actionsData = getActionsData();
+        if (actionsData == null || actionsData.isEmpty()) return null;
+        List<Location> locations = actionsData.getFirst().getLocations();
+        return locations.isEmpty() ? null : locations.getFirst();
     }
 
+    /**
+     * Last recorded location of the main entity, or null if the tracks couldn't be loaded or are empty.
+     */
     public Location getLastLocation() {
-        return actionsData.getFirst().getLocations().getLast();
+        List<ActionsData> actionsData = getActionsData();
+        if (actionsData == null || actionsData.isEmpty()) return null;
+        List<Location> locations = actionsData.getFirst().getLocations();
+        return locations.isEmpty() ? null : locations.getLast();
     }
 
     public CharacterStory getCharacter() {
@@ -57,11 +75,72 @@ public class Animation extends SceneData {
     }
 
     public List<ActionsData> getActionsData() {
+        if (actionsData == null && dataFile != null) {
+            return NarrativeCraftMod.getInstance().getAnimationCacheManager().getActionsData(this);
+        }
         return actionsData;
     }
 
+    /**
+     * Tracks without reading the file on the calling thread, for screens on the render thread.
+     * Completes with null if they couldn't be read.
+     */
+    public CompletableFuture<List<ActionsData>> loadActionsData() {
+        if (actionsData == null && dataFile != null) {
+            return NarrativeCraftMod.getInstance().getAnimationCacheManager().getActionsDataAsync(this);
+        }
+        return CompletableFuture.completedFuture(actionsData);
+    }
+
+    /**
+     * Tracks for a playback, kept in the animation cache until {@link #releaseActionsData()}
+     * so concurrent playbacks of this animation share them instead of reading the file again.
+     */
+    public List<ActionsData> acquireActionsData() {
+        if (actionsData == null && dataFile != null) {
+            return NarrativeCraftMod.getInstance().getAnimationCacheManager().acquire(this);
+        }
+        return actionsData;
+    }
+
+    public void releaseActionsData() {
+        NarrativeCraftMod.getInstance().getAnimationCacheManager().release(this);
+    }
+
+    public boolean isDataLoaded() {
+        return actionsData != null;
+    }
+
+    public int getTickLength() {
+        if (actionsData != null) {
+            return actionsData.isEmpty() ? 0 : actionsData.getFirst().getLocations().size();
+        }
+        return tickLength;
+    }
+
+    public void setTickLength(int tickLength) {
+        this.tickLength = tickLength;
+    }
+
+    public File getDataFile() {
+        return dataFile;
+    }
+
+    /**
+     * Point this animation to its file on disk and release the tracks held in memory.
+     */
+    public void unloadTo(File dataFile) {
+        this.tickLength = getTickLength();
+        this.dataFile = dataFile;
+        this.actionsData = null;
+        NarrativeCraftMod.getInstance().getAnimationCacheManager().invalidate(this);
+    }
+
     public void setActionsData(List<ActionsData> actionsData) {
         this.actionsData = actionsData;
+        if (dataFile != null) {
+            NarrativeCraftMod.getInstance().getAnimationCacheManager().invalidate(this);
+        }
     }
 
     public String getSkinName() {
@@ -29,6 +29,7 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.compat.api.RenderChannel;
 import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
 import fr.loudo.narrativecraft.narrative.chapter.scene.SceneData;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -38,15 +39,25 @@ import org.joml.Matrix4f;
 
 public class AreaTrigger extends SceneData {
 
+    // Bumped whenever a trigger is created or moved, lets spatial indexes know they are stale
+    private static final AtomicInteger BOUNDS_REVISION = new AtomicInteger();
+
     private double x1, y1, z1;
     private double x2, y2, z2;
     private boolean isUnique;
     private String stitch;
+    private transient boolean boundsCached;
+    private transient double minX, minY, minZ, maxX, maxY, maxZ;
 
     public AreaTrigger(String name, String description, Scene scene, String stitch, boolean isUnique) {
         super(name, description, scene);
         this.stitch = stitch;
         this.isUnique = isUnique;
+        BOUNDS_REVISION.incrementAndGet();
+    }
+
+    public static int getBoundsRevision() {
+        return BOUNDS_REVISION.get();
     }
 
     public void setPosition1(Vec3 vec3) {
@@ -58,12 +69,67 @@ public class AreaTrigger extends SceneData {
             this.y2 = Math.floor(vec3.y());
             this.z2 = Math.floor(vec3.z());
         }
+        boundsChanged();
     }
 
     public void setPosition2(Vec3 vec3) {
         this.x2 = Math.floor(vec3.x());
         this.y2 = Math.floor(vec3.y());
         this.z2 = Math.floor(vec3.z());
+        boundsChanged();
+    }
+
+    private void boundsChanged() {
+        boundsCached = false;
+        BOUNDS_REVISION.incrementAndGet();
+    }
+
+    private void cacheBounds() {
+        minX = Math.min(x1, x2);
+        minY = Math.min(y1, y2);
+        minZ = Math.min(z1, z2);
+        maxX = Math.max(x1, x2);
+        maxY = Math.max(y1, y2);
+        maxZ = Math.max(z1, z2);
+        boundsCached = true;
+    }
+
+    /**
+     * Whether the position is between the two corners, both included.
+     */
+    public boolean contains(double x, double y, double z) {
+        if (!boundsCached) cacheBounds();
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    public double getMinX() {
+        if (!boundsCached) cacheBounds();
+        return minX;
+    }
+
+    public double getMinY() {
+        if (!boundsCached) cacheBounds();
+        return minY;
+    }
+
+    public double getMinZ() {
+        if (!boundsCached) cacheBounds();
+        return minZ;
+    }
+
+    public double getMaxX() {
+        if (!boundsCached) cacheBounds();
+        return maxX;
+    }
+
+    public double getMaxY() {
+        if (!boundsCached) cacheBounds();
+        return maxY;
+    }
+
+    public double getMaxZ() {
+        if (!boundsCached) cacheBounds();
+        return maxZ;
     }
 
     public AABB getBoundingBox() {
@@ -165,20 +231,6 @@ public class AreaTrigger extends SceneData {
     }
 
     public static boolean isInside(AreaTrigger areaTrigger, Vec3 pPosition) {
-        Vec3 pos1 = areaTrigger.getPosition1();
-        Vec3 pos2 = areaTrigger.getPosition2();
-        double minX = Math.min(pos1.x, pos2.x);
-        double maxX = Math.max(pos1.x, pos2.x);
-        double minY = Math.min(pos1.y, pos2.y);
-        double maxY = Math.max(pos1.y, pos2.y);
-        double minZ = Math.min(pos1.z, pos2.z);
-        double maxZ = Math.max(pos1.z, pos2.z);
-
-        return pPosition.x >= minX
-                && pPosition.x <= maxX
-                && pPosition.y >= minY
-                && pPosition.y <= maxY
-                && pPosition.z >= minZ
-                && pPosition.z <= maxZ;
+        return areaTrigger.contains(pPosition.x, pPosition.y, pPosition.z);
     }
 }
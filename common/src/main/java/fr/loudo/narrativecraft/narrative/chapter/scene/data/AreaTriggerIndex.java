@@ -0,0 +1,116 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.chapter.scene.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.util.Mth;
+
+/**
+ * Grid of 16x16x16 cells over a list of area triggers, so a position is only tested against the
+ * triggers overlapping its cell.
+ *
+ * When several triggers contain the position, {@link #find} returns the one that comes last in the
+ * list, like a linear scan keeping the last match would. Triggers covering more than
+ * {@link #MAX_CELLS_PER_TRIGGER} cells are not put in the grid and are always tested.
+ */
+public class AreaTriggerIndex {
+
+    private static final int CELL_SHIFT = 4;
+    private static final int MAX_CELLS_PER_TRIGGER = 512;
+    private static final int[] NO_TRIGGERS = new int[0];
+
+    private final List<AreaTrigger> areaTriggers;
+    private final int size;
+    private final int revision;
+    private final Map<Long, int[]> cells = new HashMap<>();
+    private final int[] oversized;
+
+    public AreaTriggerIndex(List<AreaTrigger> areaTriggers) {
+        this.areaTriggers = List.copyOf(areaTriggers);
+        this.size = areaTriggers.size();
+        this.revision = AreaTrigger.getBoundsRevision();
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < this.areaTriggers.size(); i++) {
+            AreaTrigger areaTrigger = this.areaTriggers.get(i);
+            int minX = cell(areaTrigger.getMinX()), maxX = cell(areaTrigger.getMaxX());
+            int minY = cell(areaTrigger.getMinY()), maxY = cell(areaTrigger.getMaxY());
+            int minZ = cell(areaTrigger.getMinZ()), maxZ = cell(areaTrigger.getMaxZ());
+            long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+            if (cellCount > MAX_CELLS_PER_TRIGGER) {
+                large.add(i);
+                continue;
+            }
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        buckets.computeIfAbsent(key(x, y, z), k -> new ArrayList<>()).add(i);
+                    }
+                }
+            }
+        }
+        // Indices were added in list order, so every cell is sorted ascending
+        buckets.forEach((key, indices) -> cells.put(key, toArray(indices)));
+        oversized = toArray(large);
+    }
+
+    /**
+     * Whether {@code areaTriggers} changed since this index was built.
+     */
+    public boolean isStale(List<AreaTrigger> areaTriggers) {
+        return areaTriggers.size() != size || AreaTrigger.getBoundsRevision() != revision;
+    }
+
+    public AreaTrigger find(double x, double y, double z) {
+        int best = lastContaining(cells.getOrDefault(key(cell(x), cell(y), cell(z)), NO_TRIGGERS), x, y, z);
+        best = Math.max(best, lastContaining(oversized, x, y, z));
+        return best < 0 ? null : areaTriggers.get(best);
+    }
+
+    private int lastContaining(int[] indices, double x, double y, double z) {
+        for (int i = indices.length - 1; i >= 0; i--) {
+            if (areaTriggers.get(indices[i]).contains(x, y, z)) return indices[i];
+        }
+        return -1;
+    }
+
+    private static int cell(double coordinate) {
+        return Mth.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFL) << 42 | ((long) y & 0xFFFFFL) << 22 | ((long) z & 0x3FFFFFL);
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        int[] array = new int[indices.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = indices.get(i);
+        }
+        return array;
+    }
+}
@@ -29,6 +29,7 @@ import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.compat.api.NcId;
 import fr.loudo.narrativecraft.compat.api.VersionAdapterLoader;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.managers.SkinTextureManager;
 import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
 import fr.loudo.narrativecraft.util.Util;
 import java.io.File;
@@ -72,12 +73,17 @@ public class CharacterSkinController {
     public void cacheSkins() {
         if (characterRuntime.getCharacterStory() == null) return;
         Minecraft minecraft = Minecraft.getInstance();
-        unCacheSkins();
+        SkinTextureManager skinTextureManager = NarrativeCraftMod.getInstance().getSkinTextureManager();
+        List<String> previousSkins = new ArrayList<>(cachedSkins);
+        cachedSkins.clear();
         initSkins();
         for (File skin : skins) {
             String path = "character/"
                     + Util.snakeCase(characterRuntime.getCharacterStory().getName()) + "/"
                     + Util.snakeCase(skin.getName());
+            cachedSkins.add(path);
+            // Already registered from this exact file, e.g. by another playback of the same character
+            if (!skinTextureManager.acquire(path, skin)) continue;
             minecraft.execute(() -> {
                 try {
                     byte[] array = Files.toByteArray(skin);
@@ -92,22 +98,26 @@ public class CharacterSkinController {
                 } catch (IOException ignored) {
                 }
             });
-            cachedSkins.add(path);
         }
+        // Released after acquiring, so skins kept across a restart never drop to zero references
+        releaseSkins(previousSkins);
         currentSkin = skinName == null || skinName.isEmpty() ? getMainSkinFile() : getSkinFile(skinName);
     }
 
     public void unCacheSkins() {
-        Minecraft minecraft = Minecraft.getInstance();
-        for (String path : cachedSkins) {
-            minecraft.execute(() -> {
-                NcId ncId = NcId.of(NarrativeCraftMod.MOD_ID, path);
-                VersionAdapterLoader.getAdapter().getUtilCompat().releaseTexture(ncId);
-            });
-        }
+        releaseSkins(cachedSkins);
         cachedSkins.clear();
     }
 
+    private void releaseSkins(List<String> paths) {
+        SkinTextureManager skinTextureManager = NarrativeCraftMod.getInstance().getSkinTextureManager();
+        for (String path : paths) {
+            if (skinTextureManager.release(path)) {
+                SkinTextureManager.releaseTexture(path);
+            }
+        }
+    }
+
     public File getMainSkinFile() {
         for (File skin : skins) {
             if (skin.getName().equals("main.png")) {
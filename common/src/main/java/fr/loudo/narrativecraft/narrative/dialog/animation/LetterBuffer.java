@@ -0,0 +1,93 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.dialog.animation;
+
+import java.util.Arrays;
+
+/**
+ * Letters laid out by a scrolling dialog, one primitive array per field so rendering a frame
+ * walks them without allocating. Line breaks are stored as letters that are not rendered.
+ */
+public class LetterBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Single letter strings handed to the font, shared for the Latin-1 range
+    private static final String[] GLYPHS = new String[256];
+
+    static {
+        for (int i = 0; i < GLYPHS.length; i++) {
+            GLYPHS[i] = String.valueOf((char) i);
+        }
+    }
+
+    private String[] glyphs = new String[INITIAL_CAPACITY];
+    private float[] xs = new float[INITIAL_CAPACITY];
+    private float[] ys = new float[INITIAL_CAPACITY];
+    private boolean[] rendered = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    public static String glyphOf(char letter) {
+        return letter < GLYPHS.length ? GLYPHS[letter] : String.valueOf(letter);
+    }
+
+    public void add(char letter, float x, float y, boolean render) {
+        if (size == glyphs.length) {
+            int capacity = size * 2;
+            glyphs = Arrays.copyOf(glyphs, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            rendered = Arrays.copyOf(rendered, capacity);
+        }
+        glyphs[size] = glyphOf(letter);
+        xs[size] = x;
+        ys[size] = y;
+        rendered[size] = render;
+        size++;
+    }
+
+    public void clear() {
+        Arrays.fill(glyphs, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getGlyph(int index) {
+        return glyphs[index];
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    public boolean isRendered(int index) {
+        return rendered[index];
+    }
+}
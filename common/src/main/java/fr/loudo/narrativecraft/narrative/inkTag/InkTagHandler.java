@@ -26,7 +26,6 @@ package fr.loudo.narrativecraft.narrative.inkTag;
 import fr.loudo.narrativecraft.api.inkAction.InkAction;
 import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
 import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
-import fr.loudo.narrativecraft.api.inkAction.InkActionUtil;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
 import fr.loudo.narrativecraft.narrative.validation.InkValidationService;
@@ -50,8 +49,11 @@ public class InkTagHandler {
         StoryHandler storyHandler = playerSession.getStoryHandler();
         for (int i = 0; i < tagsToExecute.size(); i++) {
             String tag = tagsToExecute.get(i);
+            List<String> arguments = null;
             if (storyHandler != null) {
-                tag = InkActionUtil.parseVariables(storyHandler.getStory(), tag);
+                ParsedTag.Bound bound = storyHandler.bindTag(tag);
+                tag = bound.command();
+                arguments = bound.arguments();
             }
             InkAction inkAction = InkActionRegistry.findByCommand(tag);
             // T071: Report unknown tags with helpful error message and typo suggestions
@@ -65,7 +67,9 @@ public class InkTagHandler {
                 validationService.logError(error);
                 continue;
             }
-            result = inkAction.validate(tag, playerSession.getScene());
+            result = arguments != null
+                    ? inkAction.validate(tag, arguments, playerSession.getScene())
+                    : inkAction.validate(tag, playerSession.getScene());
             if (result.isError()) {
                 throw new InkTagHandlerException(inkAction.getClass(), result.errorMessage());
             }
@@ -0,0 +1,203 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.inkTag;
+
+import com.bladecoder.ink.runtime.Story;
+import fr.loudo.narrativecraft.api.inkAction.InkActionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * Tag text tokenized once, with its {@code %variable%} references kept as slots.
+ * <p>
+ * {@link #bind(Story)} gives the same command and arguments as
+ * {@link InkActionUtil#parseVariables(Story, String)} followed by {@link InkActionUtil#getArguments(String)},
+ * without running the regexes again. When a variable value would change how the tag is split
+ * (empty, or containing whitespace, quotes or '%'), it falls back to the regex path.
+ */
+public final class ParsedTag {
+
+    private final String raw;
+    private final Template command;
+    private final List<Object> arguments;
+    private final boolean hasVariables;
+    // Slots sharing a '%' ("%a%b%") are resolved by parseVariables' sequential replaces
+    private final boolean overlappingSlots;
+
+    private ParsedTag(String raw, Template command, List<Object> arguments) {
+        this.raw = raw;
+        this.command = command;
+        this.arguments = arguments;
+        this.hasVariables = command.slots.length > 0;
+        this.overlappingSlots = hasVariables && command.hasOverlappingSlots();
+    }
+
+    public static ParsedTag parse(String tag) {
+        List<Object> arguments = new ArrayList<>();
+        Matcher matcher = InkActionUtil.NAME_PATTERN.matcher(tag);
+        while (matcher.find()) {
+            String text = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            Template template = Template.of(text);
+            if (template.slots.length > 0) {
+                arguments.add(template);
+            } else {
+                addArgument(arguments, text);
+            }
+        }
+        return new ParsedTag(tag, Template.of(tag), arguments);
+    }
+
+    public Bound bind(Story story) {
+        if (!hasVariables || story == null) {
+            return new Bound(raw, unboundArguments());
+        }
+        String[] values = overlappingSlots ? null : command.resolve(story);
+        if (values == null) {
+            String filled = InkActionUtil.parseVariables(story, raw);
+            return new Bound(filled, InkActionUtil.getArguments(filled));
+        }
+        List<String> bound = new ArrayList<>(arguments.size());
+        for (Object argument : arguments) {
+            if (argument instanceof Template template) {
+                addArgument(bound, template.fill(template.resolve(story)));
+            } else {
+                bound.add((String) argument);
+            }
+        }
+        return new Bound(command.fill(values), bound);
+    }
+
+    public String getRaw() {
+        return raw;
+    }
+
+    private List<String> unboundArguments() {
+        List<String> copy = new ArrayList<>(arguments.size());
+        for (Object argument : arguments) {
+            if (argument instanceof Template template) {
+                addArgument(copy, template.text);
+            } else {
+                copy.add((String) argument);
+            }
+        }
+        return copy;
+    }
+
+    // Same rules as InkActionUtil.getArguments for a single token
+    private static void addArgument(List<? super String> arguments, String text) {
+        if (isOptionalArgument(text)) return;
+        arguments.add(text.equals("\"\"") ? "" : text);
+    }
+
+    // Same as OPTIONAL_ARGUMENT_PATTERN ("--(\S+)") matching the whole token
+    private static boolean isOptionalArgument(String text) {
+        if (text.length() <= 2 || !text.startsWith("--")) return false;
+        for (int i = 2; i < text.length(); i++) {
+            if (isRegexWhitespace(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    public record Bound(String command, List<String> arguments) {}
+
+    private static final class Template {
+        private final String text;
+        private final String[] literals;
+        private final String[] slots;
+
+        private Template(String text, String[] literals, String[] slots) {
+            this.text = text;
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        static Template of(String text) {
+            List<String> literals = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            Matcher matcher = InkActionUtil.VARIABLE_NAME.matcher(text);
+            int last = 0;
+            while (matcher.find()) {
+                literals.add(text.substring(last, matcher.start()));
+                slots.add(matcher.group(1));
+                last = matcher.end();
+            }
+            literals.add(text.substring(last));
+            return new Template(text, literals.toArray(String[]::new), slots.toArray(String[]::new));
+        }
+
+        /**
+         * Slot values, or null when one of them cannot be substituted without re-tokenizing.
+         */
+        String[] resolve(Story story) {
+            String[] values = new String[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                Object variable = story.getVariablesState().get(slots[i]);
+                if (variable == null) {
+                    values[i] = "%" + slots[i] + "%";
+                    continue;
+                }
+                String value = variable.toString();
+                if (!isSafe(value)) return null;
+                values[i] = value;
+            }
+            return values;
+        }
+
+        private static boolean isSafe(String value) {
+            if (value.isEmpty()) return false;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '%' || isRegexWhitespace(c)) return false;
+            }
+            return true;
+        }
+
+        boolean hasOverlappingSlots() {
+            Matcher matcher = InkActionUtil.VARIABLE_NAME.matcher(text);
+            int slot = 0;
+            int slotStart = literals[0].length();
+            for (int i = text.indexOf('%'); i >= 0; i = text.indexOf('%', i + 1)) {
+                if (slot < slots.length && i == slotStart) {
+                    slotStart += slots[slot].length() + 2 + literals[++slot].length();
+                    continue;
+                }
+                if (matcher.region(i, text.length()).lookingAt()) return true;
+            }
+            return false;
+        }
+
+        String fill(String[] values) {
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(values[i]).append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -30,6 +30,39 @@ import net.minecraft.server.level.ServerPlayer;
 public class KeyframeGroup<T extends Keyframe> {
     protected final List<T> keyframes = new ArrayList<>();
 
+    /**
+     * Keyframe after {@code keyframe}, walking into the next group at the end of its own,
+     * or {@code keyframe} itself if it is the last one.
+     */
+    public static <T extends Keyframe> T getNextKeyframe(List<? extends KeyframeGroup<T>> keyframeGroups, T keyframe) {
+        for (int i = 0; i < keyframeGroups.size(); i++) {
+            List<T> keyframes = keyframeGroups.get(i).getKeyframes();
+            for (int j = 0; j < keyframes.size(); j++) {
+                if (keyframes.get(j).getId() == keyframe.getId()) {
+                    if (j + 1 < keyframes.size()) {
+                        return keyframes.get(j + 1);
+                    } else if (i + 1 < keyframeGroups.size()) {
+                        return keyframeGroups.get(i + 1).getKeyframes().getFirst();
+                    }
+                }
+            }
+        }
+        return keyframe;
+    }
+
+    /**
+     * Group holding {@code keyframe}, or null if none does.
+     */
+    public static <T extends Keyframe, E extends KeyframeGroup<T>> E getGroupOfKeyframe(
+            List<E> keyframeGroups, T keyframe) {
+        for (E keyframeGroup : keyframeGroups) {
+            if (keyframeGroup.getKeyframeById(keyframe.getId()) != null) {
+                return keyframeGroup;
+            }
+        }
+        return null;
+    }
+
     public List<T> getKeyframes() {
         return keyframes;
     }
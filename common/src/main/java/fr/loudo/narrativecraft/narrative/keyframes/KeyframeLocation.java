@@ -60,6 +60,20 @@ public class KeyframeLocation {
         z = vec3.z;
     }
 
+    /**
+     * Overwrite this location with the values of {@code other}, for poses reused across frames.
+     */
+    public KeyframeLocation set(KeyframeLocation other) {
+        x = other.x;
+        y = other.y;
+        z = other.z;
+        pitch = other.pitch;
+        yaw = other.yaw;
+        roll = other.roll;
+        fov = other.fov;
+        return this;
+    }
+
     public Location asLocation() {
         return new Location(x, y, z, pitch, yaw, false);
     }
@@ -34,6 +34,7 @@ import fr.loudo.narrativecraft.narrative.recording.actions.*;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
 import fr.loudo.narrativecraft.platform.Services;
 import fr.loudo.narrativecraft.util.FakePlayer;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
 import fr.loudo.narrativecraft.util.Translation;
 import fr.loudo.narrativecraft.util.Util;
 import java.util.ArrayList;
@@ -42,6 +43,7 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.*;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
@@ -55,10 +57,15 @@ public class Playback {
     private final Environment environment;
     private final List<PlaybackData> entityPlaybacks = new ArrayList<>();
     private Runnable onStop;
+    // Tracks fetched on start, held for the playback lifetime so cache eviction can't swap them
+    private List<ActionsData> actionsData;
 
     private LivingEntity masterEntity;
     private boolean isPlaying, hasEnded, isUnique;
     private int globalTick;
+    // Tick whose movements were resolved by prepareTick(), -1 when nothing is prepared
+    private int preparedTick = -1;
+    private PlaybackLod lod = PlaybackLod.FULL;
 
     public Playback(int id, Animation animation, Level level, Environment environment, boolean isLooping) {
         this.id = id;
@@ -83,13 +90,17 @@ public class Playback {
                     "Animation {} does not have any character assigned, can't start.", animation.getName());
             return;
         }
+        Location firstLocation = animation.getFirstLocation();
+        if (firstLocation == null) {
+            // No tracks to compare against, start() reports it
+            start();
+            return;
+        }
         List<CharacterRuntime> characterRuntimes = storyHandler.getCharacterRuntimeFromCharacter(this.getCharacter());
         for (CharacterRuntime characterRuntime1 : characterRuntimes) {
             if (characterRuntime1.getEntity() != null
                     && !characterRuntime1.getEntity().isRemoved()) {
-                if (needToRespawn(
-                        characterRuntime1.getEntity().position(),
-                        animation.getFirstLocation().asVec3())) {
+                if (needToRespawn(characterRuntime1.getEntity().position(), firstLocation.asVec3())) {
                     storyHandler.killCharacter(animation.getCharacter());
                 } else {
                     masterEntity = characterRuntime1.getEntity();
@@ -117,12 +128,22 @@ public class Playback {
             return;
         }
 
+        releaseActionsData();
+        actionsData = animation.acquireActionsData();
+        if (actionsData == null || actionsData.isEmpty()) {
+            NarrativeCraftMod.LOGGER.error("Animation {} has no recorded data, can't start.", animation.getName());
+            releaseActionsData();
+            return;
+        }
+
         globalTick = 0;
+        preparedTick = -1;
+        lod = PlaybackLod.FULL;
         isPlaying = true;
         hasEnded = false;
         entityPlaybacks.clear();
 
-        ActionsData masterEntityData = animation.getActionsData().getFirst();
+        ActionsData masterEntityData = actionsData.getFirst();
         Location firstLoc = masterEntityData.getLocations().getFirst();
         PlaybackData playbackData = new PlaybackData(masterEntityData, this);
         playbackData.setEntity(masterEntity);
@@ -131,11 +152,11 @@ public class Playback {
             spawnMasterEntity(firstLoc);
         }
 
-        for (int i = 1; i < animation.getActionsData().size(); i++) {
-            ActionsData actionsData = animation.getActionsData().get(i);
-            PlaybackData playbackData1 = new PlaybackData(actionsData, this);
-            if (actionsData.getSpawnTick() == 0) {
-                playbackData1.spawnEntity(actionsData.getLocations().getFirst());
+        for (int i = 1; i < actionsData.size(); i++) {
+            ActionsData entityData = actionsData.get(i);
+            PlaybackData playbackData1 = new PlaybackData(entityData, this);
+            if (entityData.getSpawnTick() == 0) {
+                playbackData1.spawnEntity(entityData.getLocations().getFirst());
             }
             entityPlaybacks.add(playbackData1);
         }
@@ -147,9 +168,34 @@ public class Playback {
     }
 
     public void tick() {
+        prepareTick();
+        applyTick();
+    }
+
+    /**
+     * First half of a tick: resolve the next movement of every entity from the recorded tracks.
+     * Touches no world state, the tick handler runs it for many playbacks in parallel.
+     */
+    public void prepareTick() {
+        if (!isPlaying) return;
+        for (PlaybackData playbackData : entityPlaybacks) {
+            playbackData.prepare(globalTick);
+        }
+        preparedTick = globalTick;
+    }
+
+    /**
+     * Second half of a tick, on the server thread: move and spawn entities, then run the due actions.
+     */
+    public void applyTick() {
         if (!isPlaying) return;
+        // Started or moved in time since the prepare phase
+        if (preparedTick != globalTick) prepareTick();
+        if (globalTick % NarrativeCraftConstants.PLAYBACK_LOD_UPDATE_INTERVAL == 0) {
+            updateLod();
+        }
         for (PlaybackData playbackData : entityPlaybacks) {
-            playbackData.tick(globalTick);
+            playbackData.apply(lod);
         }
 
         globalTick++;
@@ -163,6 +209,22 @@ public class Playback {
         }
     }
 
+    /**
+     * Only looping story playbacks are scaled down, cutscenes and recordings always run at full fidelity.
+     */
+    private void updateLod() {
+        if (!isLooping || environment != Environment.PRODUCTION || masterEntity == null) {
+            lod = PlaybackLod.FULL;
+            return;
+        }
+        double closestDistanceSqr = Double.MAX_VALUE;
+        for (Player player : level.players()) {
+            if (player instanceof FakePlayer) continue;
+            closestDistanceSqr = Math.min(closestDistanceSqr, masterEntity.distanceToSqr(player));
+        }
+        lod = PlaybackLod.fromDistanceSqr(closestDistanceSqr);
+    }
+
     public void finalizePlaybackCycle() {
         if (isUnique || environment == Environment.RECORDING) {
             stop(true);
@@ -202,6 +264,7 @@ public class Playback {
             playbackData.reset();
         }
         globalTick = 0;
+        preparedTick = -1;
     }
 
     public void killMasterEntity() {
@@ -229,7 +292,7 @@ public class Playback {
 
     public void changeLocationByTick(int newTick, boolean seamless) {
         newTick = Math.min(
-                newTick, animation.getActionsData().getFirst().getLocations().size() - 1);
+                newTick, getActionsData().getFirst().getLocations().size() - 1);
         int oldTick = globalTick;
         for (PlaybackData playbackData : entityPlaybacks) {
             ActionsData actionsData = playbackData.getActionsData();
@@ -241,14 +304,7 @@ public class Playback {
                 } else {
                     killMasterEntity();
                     spawnMasterEntity(location);
-                    if (newTick == 0) {
-                        globalTick = 0;
-                        actionListener(playbackData);
-                    }
-                    for (int i = 0; i < newTick; i++) {
-                        globalTick = i;
-                        actionListener(playbackData);
-                    }
+                    executeActionsBetween(playbackData, 0, Math.max(newTick, 1));
                     globalTick = oldTick;
                 }
             } else {
@@ -256,52 +312,79 @@ public class Playback {
             }
         }
         for (PlaybackData playbackData : entityPlaybacks) {
-            int tickDiff = newTick - globalTick;
-            if (tickDiff > 0) {
-                for (int i = globalTick; i < newTick; i++) {
-                    globalTick = i;
-                    actionListener(playbackData);
-                }
+            if (newTick > globalTick) {
+                executeActionsBetween(playbackData, globalTick, newTick);
             } else {
-                for (int i = globalTick; i > newTick; i--) {
-                    globalTick = i;
-                    actionListenerRewind(playbackData);
-                }
+                rewindActionsBetween(playbackData, newTick, globalTick);
             }
             globalTick = oldTick;
         }
         globalTick = newTick;
+        preparedTick = -1;
         hasEnded = false;
     }
 
     public void actionListener(PlaybackData playbackData) {
         if (playbackData.getEntity() == null) return;
-        List<Action> actions = playbackData.getActionsData().getActions();
-        for (Action action : actions) {
-            if (globalTick != action.getTick()) continue;
+        int bucket = playbackData.seekActionBucket(globalTick);
+        if (bucket < 0) return;
+        executeBucket(playbackData, playbackData.getActionsData().getTimeline(), bucket);
+    }
+
+    public void actionListenerRewind(PlaybackData playbackData) {
+        ActionTimeline timeline = playbackData.getActionsData().getTimeline();
+        int bucket = timeline.seek(globalTick);
+        if (!timeline.isAt(bucket, globalTick)) return;
+        rewindBucket(playbackData, timeline, bucket);
+    }
+
+    /**
+     * Execute every action with a tick in [fromTick, toTick), bucket by bucket.
+     * Ticks without actions are skipped instead of being replayed one by one.
+     */
+    private void executeActionsBetween(PlaybackData playbackData, int fromTick, int toTick) {
+        ActionTimeline timeline = playbackData.getActionsData().getTimeline();
+        for (int bucket = timeline.seek(fromTick);
+                bucket < timeline.bucketCount() && timeline.tickOf(bucket) < toTick;
+                bucket++) {
+            if (playbackData.getEntity() == null) return;
+            globalTick = timeline.tickOf(bucket);
+            executeBucket(playbackData, timeline, bucket);
+        }
+    }
+
+    /**
+     * Rewind every action with a tick in (toTick, fromTick], latest first.
+     */
+    private void rewindActionsBetween(PlaybackData playbackData, int toTick, int fromTick) {
+        ActionTimeline timeline = playbackData.getActionsData().getTimeline();
+        for (int bucket = timeline.seek(fromTick + 1) - 1;
+                bucket >= 0 && timeline.tickOf(bucket) > toTick;
+                bucket--) {
+            globalTick = timeline.tickOf(bucket);
+            rewindBucket(playbackData, timeline, bucket);
+        }
+    }
+
+    private void executeBucket(PlaybackData playbackData, ActionTimeline timeline, int bucket) {
+        for (int i = timeline.bucketStart(bucket); i < timeline.bucketEnd(bucket); i++) {
+            Action action = timeline.get(i);
             if (action instanceof EmoteAction && !Services.PLATFORM.isModLoaded("emotecraft")) continue;
+            // Nobody around to see it, and there is no state to catch up on later
+            if (lod == PlaybackLod.HIDDEN && action.isTransient()) continue;
             action.execute(playbackData);
         }
     }
 
-    public void actionListenerRewind(PlaybackData playbackData) {
-        List<Action> actions = playbackData.getActionsData().getActions();
-        for (int i = actions.size() - 1; i >= 0; i--) {
-            Action action = actions.get(i);
-            if (globalTick != action.getTick()) continue;
+    private void rewindBucket(PlaybackData playbackData, ActionTimeline timeline, int bucket) {
+        for (int i = timeline.bucketEnd(bucket) - 1; i >= timeline.bucketStart(bucket); i--) {
+            Action action = timeline.get(i);
             if (action instanceof EmoteAction && !Services.PLATFORM.isModLoaded("emotecraft")) continue;
             if (!(action instanceof DeathAction) && playbackData.getEntity() == null) continue;
             if (action instanceof PoseAction poseAction) {
                 poseAction.rewind(playbackData);
                 if (poseAction.getPreviousPose() == Pose.SLEEPING) {
-                    SleepAction previousSleepAction = null;
-                    for (int j = actions.size() - 1; j >= 0; j--) {
-                        Action candidate = actions.get(j);
-                        if (candidate instanceof SleepAction sleepAction && sleepAction.getTick() <= action.getTick()) {
-                            previousSleepAction = sleepAction;
-                            break;
-                        }
-                    }
+                    SleepAction previousSleepAction = timeline.findLastBefore(SleepAction.class, action.getTick());
                     if (previousSleepAction != null) {
                         previousSleepAction.execute(playbackData);
                     }
@@ -327,7 +410,7 @@ public class Playback {
     }
 
     public int getMaxTick() {
-        return animation.getActionsData().stream()
+        return getActionsData().stream()
                 .mapToInt(data -> data.getLocations().size())
                 .max()
                 .orElse(0);
@@ -346,9 +429,16 @@ public class Playback {
                 playbackData.killEntity();
             }
         }
+        releaseActionsData();
         if (onStop != null) onStop.run();
     }
 
+    private void releaseActionsData() {
+        if (actionsData == null) return;
+        animation.releaseActionsData();
+        actionsData = null;
+    }
+
     private void moveEntitySilent(Entity entity, Location location) {
         if (entity == null) return;
         entity.setXRot(location.pitch());
@@ -390,7 +480,11 @@ public class Playback {
     }
 
     public ActionsData getMasterEntityData() {
-        return animation.getActionsData().getFirst();
+        return getActionsData().getFirst();
+    }
+
+    public List<ActionsData> getActionsData() {
+        return actionsData != null ? actionsData : animation.getActionsData();
     }
 
     public boolean isPlaying() {
@@ -407,6 +501,7 @@ public class Playback {
 
     public void setTick(int tick) {
         this.globalTick = tick;
+        this.preparedTick = -1;
     }
 
     public void setPlaying(boolean playing) {
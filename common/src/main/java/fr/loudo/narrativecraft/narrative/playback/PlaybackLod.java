@@ -0,0 +1,56 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.playback;
+
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+
+/**
+ * How much work an ambient playback does per tick, depending on the distance to its closest viewer.
+ */
+public enum PlaybackLod {
+    /** Teleport and collision move every tick, every action played */
+    FULL,
+    /** Teleport every tick without the collision move */
+    REDUCED,
+    /** Teleport every few ticks, actions only shown at the moment they play are skipped */
+    HIDDEN;
+
+    public static PlaybackLod fromDistanceSqr(double distanceSqr) {
+        double full = NarrativeCraftConstants.PLAYBACK_LOD_FULL_DISTANCE;
+        double reduced = NarrativeCraftConstants.PLAYBACK_LOD_REDUCED_DISTANCE;
+        if (distanceSqr <= full * full) return FULL;
+        if (distanceSqr <= reduced * reduced) return REDUCED;
+        return HIDDEN;
+    }
+
+    /**
+     * Whether the entity should be moved on this local tick. Hidden entities still land on
+     * their last location so they are in place when a viewer shows up.
+     */
+    public boolean shouldMove(int localTick, int trackSize) {
+        return this != HIDDEN
+                || localTick % NarrativeCraftConstants.PLAYBACK_LOD_HIDDEN_MOVE_INTERVAL == 0
+                || localTick >= trackSize - 1;
+    }
+}
@@ -26,18 +26,60 @@ package fr.loudo.narrativecraft.narrative.playback;
 import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.controllers.cutscene.CutsceneController;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
+/**
+ * Ticks the playbacks of every player in two phases, both on the server thread. Movements are first
+ * resolved from the recorded tracks for every playback, then every world change (teleport, spawn,
+ * actions) is applied. The prepare phase is not spread over worker threads: it is a track lookup per
+ * entity, cheaper than handing it off to another thread and joining on it.
+ */
 public class PlaybackTickHandler {
+
+    // Reused every tick, only touched from the server thread
+    private static final List<PlayerSession> SESSIONS = new ArrayList<>();
+    private static final List<Playback> PLAYBACKS = new ArrayList<>();
+
     public static void tick(MinecraftServer server) {
+        SESSIONS.clear();
         for (ServerPlayer serverPlayer : server.getPlayerList().getPlayers()) {
             PlayerSession playerSession =
                     NarrativeCraftMod.getInstance().getPlayerSessionManager().getSessionByPlayer(serverPlayer);
-            if (playerSession == null) return;
-            for (Playback playback : playerSession.getPlaybackManager().getPlaybacks()) {
-                playback.tick();
+            if (playerSession == null) continue;
+            SESSIONS.add(playerSession);
+        }
+        try {
+            tick(SESSIONS);
+        } finally {
+            SESSIONS.clear();
+        }
+    }
+
+    /**
+     * Tick the playbacks, then the cutscene controllers, of the given sessions.
+     */
+    public static void tick(List<PlayerSession> sessions) {
+        PLAYBACKS.clear();
+        for (PlayerSession playerSession : sessions) {
+            // Snapshot, stopping a playback removes it from the manager while we apply
+            PLAYBACKS.addAll(playerSession.getPlaybackManager().getPlaybacks());
+        }
+
+        try {
+            for (Playback playback : PLAYBACKS) {
+                playback.prepareTick();
             }
+            for (Playback playback : PLAYBACKS) {
+                playback.applyTick();
+            }
+        } finally {
+            PLAYBACKS.clear();
+        }
+
+        for (PlayerSession playerSession : sessions) {
             // Playback from controllers are separated from playback manager,
             // in order to not be interfered from other players stopping playbacks.
             if (playerSession.getController() instanceof CutsceneController controller) {
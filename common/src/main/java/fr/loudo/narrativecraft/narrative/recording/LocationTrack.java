@@ -0,0 +1,167 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.recording;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Per-tick locations of a recorded entity, stored as primitive columns instead of one
+ * {@link Location} per tick.
+ *
+ * Consecutive identical samples are collapsed into a single run, so an entity standing still
+ * costs nothing until it moves again. {@link #get} resolves a tick to its run by binary search
+ * (with a shortcut for sequential playback) and only builds a {@link Location} when the run changes.
+ */
+public final class LocationTrack extends AbstractList<Location> implements RandomAccess {
+
+    private static final int INITIAL_RUNS = 16;
+
+    private int[] runStarts;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private float[] pitches;
+    private float[] yaws;
+    private boolean[] onGrounds;
+    private int runCount;
+    private int size;
+    // Held in one field so a reader on another thread never sees a run paired with the wrong location
+    private volatile Materialized materialized;
+
+    public LocationTrack() {
+        this(INITIAL_RUNS);
+    }
+
+    public LocationTrack(int initialRuns) {
+        int capacity = Math.max(1, initialRuns);
+        runStarts = new int[capacity];
+        xs = new double[capacity];
+        ys = new double[capacity];
+        zs = new double[capacity];
+        pitches = new float[capacity];
+        yaws = new float[capacity];
+        onGrounds = new boolean[capacity];
+    }
+
+    public static LocationTrack copyOf(List<Location> locations) {
+        if (locations instanceof LocationTrack track) return track;
+        LocationTrack track = new LocationTrack();
+        for (Location location : locations) {
+            track.add(location);
+        }
+        return track;
+    }
+
+    /**
+     * Record the next tick. Allocates only when the run arrays have to grow.
+     */
+    public void append(double x, double y, double z, float pitch, float yaw, boolean onGround) {
+        int last = runCount - 1;
+        if (last >= 0
+                && Double.compare(xs[last], x) == 0
+                && Double.compare(ys[last], y) == 0
+                && Double.compare(zs[last], z) == 0
+                && Float.compare(pitches[last], pitch) == 0
+                && Float.compare(yaws[last], yaw) == 0
+                && onGrounds[last] == onGround) {
+            size++;
+            modCount++;
+            return;
+        }
+        if (runCount == runStarts.length) {
+            grow();
+        }
+        runStarts[runCount] = size;
+        xs[runCount] = x;
+        ys[runCount] = y;
+        zs[runCount] = z;
+        pitches[runCount] = pitch;
+        yaws[runCount] = yaw;
+        onGrounds[runCount] = onGround;
+        runCount++;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(Location location) {
+        append(location.x(), location.y(), location.z(), location.pitch(), location.yaw(), location.onGround());
+        return true;
+    }
+
+    @Override
+    public Location get(int tick) {
+        Objects.checkIndex(tick, size);
+        Materialized current = materialized;
+        if (current != null && current.run() < runCount && covers(current.run(), tick)) {
+            return current.location();
+        }
+        int run = runOf(tick, current == null ? -1 : current.run());
+        Location location = new Location(xs[run], ys[run], zs[run], pitches[run], yaws[run], onGrounds[run]);
+        materialized = new Materialized(run, location);
+        return location;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of distinct samples actually stored.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    private boolean covers(int run, int tick) {
+        return runStarts[run] <= tick && (run + 1 == runCount || runStarts[run + 1] > tick);
+    }
+
+    private int runOf(int tick, int hint) {
+        // Playback walks forward one tick at a time, so the next run is the usual answer
+        if (hint >= 0 && hint + 1 < runCount && covers(hint + 1, tick)) {
+            return hint + 1;
+        }
+        int index = Arrays.binarySearch(runStarts, 0, runCount, tick);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void grow() {
+        int capacity = runStarts.length + (runStarts.length >> 1) + 1;
+        runStarts = Arrays.copyOf(runStarts, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        pitches = Arrays.copyOf(pitches, capacity);
+        yaws = Arrays.copyOf(yaws, capacity);
+        onGrounds = Arrays.copyOf(onGrounds, capacity);
+    }
+
+    private record Materialized(int run, Location location) {}
+}
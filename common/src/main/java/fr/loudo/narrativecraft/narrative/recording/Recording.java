@@ -23,6 +23,7 @@
 
 package fr.loudo.narrativecraft.narrative.recording;
 
+import fr.loudo.narrativecraft.NarrativeCraftMod;
 import fr.loudo.narrativecraft.files.NarrativeCraftFile;
 import fr.loudo.narrativecraft.narrative.Environment;
 import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
@@ -32,6 +33,7 @@ import fr.loudo.narrativecraft.narrative.recording.actions.GameModeAction;
 import fr.loudo.narrativecraft.narrative.recording.actions.RidingAction;
 import fr.loudo.narrativecraft.narrative.recording.actions.modsListeners.ModsListenerImpl;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import fr.loudo.narrativecraft.options.NarrativeWorldOption;
 import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
 import fr.loudo.narrativecraft.util.NarrativeProfiler;
 import java.io.IOException;
@@ -66,6 +68,8 @@ public class Recording {
     private RecordingData entityRecorderData;
     private boolean isRecording;
     private int tick;
+    // Ticks between nearby entity scans, entities spawned in between are tracked through onEntityAdded
+    private int scanInterval = 1;
 
     public Recording(LivingEntity entity, PlayerSession playerSession) {
         tick = 0;
@@ -95,6 +99,8 @@ public class Recording {
         recordingDataList.clear();
         trackedEntityUUIDs.clear();
         recordingDataList.add(entityRecorderData);
+        NarrativeWorldOption worldOption = NarrativeCraftMod.getInstance().getNarrativeWorldOption();
+        scanInterval = worldOption != null ? Math.max(1, worldOption.recordingScanInterval) : 1;
         isRecording = true;
         if (entityRecorderData.getEntity() instanceof ServerPlayer player) {
             GameModeAction gameModeAction = new GameModeAction(
@@ -131,6 +137,8 @@ public class Recording {
                 .filter(RecordingData::isSavingTrack)
                 .map(RecordingData::getActionsData)
                 .toList();
+        // Some listeners append to getActions() directly while recording, drop any stale index
+        actionsDataList.forEach(ActionsData::invalidateTimeline);
         animation.setActionsData(actionsDataList);
         NarrativeCraftFile.updateAnimationFile(animation);
         animation.getScene().addAnimation(animation);
@@ -140,36 +148,8 @@ public class Recording {
     public void tick() {
         NarrativeProfiler.start(NarrativeProfiler.RECORDING);
 
-        // T095/T096: Removed stream().map().toList() allocation
-        // Before: List<UUID> trackedUUIDs = trackedEntities.stream().map(Entity::getUUID).toList();
-        // After: Direct HashSet lookup - O(1) instead of O(n) and zero allocations
-
-        List<Entity> nearbyEntities = entityRecorderData
-                .getEntity()
-                .level()
-                .getEntities(
-                        entityRecorderData.getEntity(),
-                        entityRecorderData
-                                .getEntity()
-                                .getBoundingBox()
-                                .inflate(NarrativeCraftConstants.ENTITY_TRACKING_RADIUS));
-
-        for (Entity entity : nearbyEntities) {
-            UUID entityUUID = entity.getUUID();
-            // T096: O(1) HashSet lookup instead of O(n) List.contains()
-            if (!trackedEntityUUIDs.contains(entityUUID)
-                    && !(entity instanceof ProjectileItem)
-                    && !(entity instanceof EyeOfEnder)
-                    && !(entity instanceof ThrowableItemProjectile)) {
-                trackedEntityUUIDs.add(entityUUID);
-                RecordingData recordingData = new RecordingData(entity, this);
-                recordingDataList.add(recordingData);
-                if (entity instanceof VehicleEntity
-                        || entity instanceof AbstractHorse
-                        || entity instanceof ItemEntity) {
-                    trackEntity(entity, tick);
-                }
-            }
+        if (tick % scanInterval == 0) {
+            scanNearbyEntities();
         }
 
         // Handle first-tick vehicle detection BEFORE recording locations
@@ -195,22 +175,81 @@ public class Recording {
         NarrativeProfiler.stop(NarrativeProfiler.RECORDING);
     }
 
-    public ActionsData getActionDataFromEntity(Entity entity) {
-        for (RecordingData recordingData : recordingDataList) {
-            if (recordingData.isSameEntity(entity)) {
-                recordingData.setSavingTrack(true);
-                return recordingData.getActionsData();
+    private void scanNearbyEntities() {
+        // T095/T096: Removed stream().map().toList() allocation
+        // Before: List<UUID> trackedUUIDs = trackedEntities.stream().map(Entity::getUUID).toList();
+        // After: Direct HashSet lookup - O(1) instead of O(n) and zero allocations
+
+        List<Entity> nearbyEntities = entityRecorderData
+                .getEntity()
+                .level()
+                .getEntities(
+                        entityRecorderData.getEntity(),
+                        entityRecorderData
+                                .getEntity()
+                                .getBoundingBox()
+                                .inflate(NarrativeCraftConstants.ENTITY_TRACKING_RADIUS));
+
+        for (Entity entity : nearbyEntities) {
+            trackNearbyEntity(entity);
+        }
+    }
+
+    private RecordingData trackNearbyEntity(Entity entity) {
+        UUID entityUUID = entity.getUUID();
+        // T096: O(1) HashSet lookup instead of O(n) List.contains()
+        if (!trackedEntityUUIDs.contains(entityUUID)
+                && !(entity instanceof ProjectileItem)
+                && !(entity instanceof EyeOfEnder)
+                && !(entity instanceof ThrowableItemProjectile)) {
+            trackedEntityUUIDs.add(entityUUID);
+            RecordingData recordingData = new RecordingData(entity, this);
+            recordingDataList.add(recordingData);
+            if (entity instanceof VehicleEntity
+                    || entity instanceof AbstractHorse
+                    || entity instanceof ItemEntity) {
+                trackEntity(entity, tick);
             }
+            return recordingData;
         }
         return null;
     }
 
+    private boolean isWithinTrackingRange(Entity entity) {
+        Entity recorder = entityRecorderData.getEntity();
+        return entity.level() == recorder.level()
+                && recorder.getBoundingBox()
+                        .inflate(NarrativeCraftConstants.ENTITY_TRACKING_RADIUS)
+                        .intersects(entity.getBoundingBox());
+    }
+
+    /**
+     * Track an entity added to the world near the recorder right away instead of at the next scan.
+     */
+    public void onEntityAdded(Entity entity) {
+        if (scanInterval == 1 || !isRecording || isSameEntity(entity)) return;
+        if (isWithinTrackingRange(entity)) {
+            trackNearbyEntity(entity);
+        }
+    }
+
+    public ActionsData getActionDataFromEntity(Entity entity) {
+        RecordingData recordingData = getRecordingDataFromEntity(entity);
+        if (recordingData == null) return null;
+        recordingData.setSavingTrack(true);
+        return recordingData.getActionsData();
+    }
+
     public RecordingData getRecordingDataFromEntity(Entity entity) {
         for (RecordingData recordingData : recordingDataList) {
             if (recordingData.isSameEntity(entity)) {
                 return recordingData;
             }
         }
+        // Between two scans an entity can interact with the recorder before it was picked up
+        if (scanInterval > 1 && isRecording && isWithinTrackingRange(entity)) {
+            return trackNearbyEntity(entity);
+        }
         return null;
     }
 
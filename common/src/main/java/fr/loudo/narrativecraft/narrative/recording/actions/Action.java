@@ -47,4 +47,12 @@ public abstract class Action {
     public abstract void execute(PlaybackData playbackData);
 
     public abstract void rewind(PlaybackData playbackData);
+
+    /**
+     * Whether the action is only visible at the moment it plays and leaves no state behind,
+     * so a playback with no viewer around can skip it.
+     */
+    public boolean isTransient() {
+        return false;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.recording.actions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tick-sorted, immutable index over the actions of an {@link ActionsData}.
+ *
+ * Actions are grouped into buckets of equal tick. Inside a bucket the recording
+ * order is preserved, so dispatch order matches a linear scan of the action list.
+ * Playback keeps a cursor on the bucket array and advances it with the global tick,
+ * which makes dispatching O(actions due this tick) instead of O(all actions).
+ */
+public final class ActionTimeline {
+
+    public static final ActionTimeline EMPTY = new ActionTimeline(new int[0], new int[] {0}, new Action[0]);
+
+    // Distinct ticks, ascending
+    private final int[] ticks;
+    // bucketStart[i]..bucketStart[i + 1] is the range of actions for ticks[i]
+    private final int[] bucketStart;
+    private final Action[] actions;
+
+    private ActionTimeline(int[] ticks, int[] bucketStart, Action[] actions) {
+        this.ticks = ticks;
+        this.bucketStart = bucketStart;
+        this.actions = actions;
+    }
+
+    /**
+     * Build a timeline from a list of actions. Null entries (unknown action types
+     * in old animation files) are dropped.
+     */
+    public static ActionTimeline compile(List<Action> actionList) {
+        if (actionList == null || actionList.isEmpty()) return EMPTY;
+        Action[] sorted = actionList.stream().filter(Objects::nonNull).toArray(Action[]::new);
+        if (sorted.length == 0) return EMPTY;
+        // Arrays.sort on objects is stable: same-tick actions keep their recording order
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.getTick(), b.getTick()));
+
+        int[] ticks = new int[sorted.length];
+        int[] bucketStart = new int[sorted.length + 1];
+        int buckets = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i].getTick() != sorted[i - 1].getTick()) {
+                ticks[buckets] = sorted[i].getTick();
+                bucketStart[buckets] = i;
+                buckets++;
+            }
+        }
+        bucketStart[buckets] = sorted.length;
+        return new ActionTimeline(Arrays.copyOf(ticks, buckets), Arrays.copyOf(bucketStart, buckets + 1), sorted);
+    }
+
+    /**
+     * Index of the first bucket whose tick is greater than or equal to {@code tick}.
+     * Returns {@link #bucketCount()} if every bucket is before the tick.
+     */
+    public int seek(int tick) {
+        int index = Arrays.binarySearch(ticks, tick);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Move a cursor (as returned by {@link #seek(int)}) to the bucket for {@code tick}.
+     * Stepping one tick forward costs O(1); any other jump falls back to a binary search.
+     */
+    public int advance(int cursor, int tick) {
+        if (cursor < 0 || cursor > ticks.length) return seek(tick);
+        if (cursor > 0 && ticks[cursor - 1] >= tick) return seek(tick);
+        if (cursor < ticks.length && ticks[cursor] < tick) {
+            cursor++;
+            if (cursor < ticks.length && ticks[cursor] < tick) return seek(tick);
+        }
+        return cursor;
+    }
+
+    public boolean isAt(int bucket, int tick) {
+        return bucket >= 0 && bucket < ticks.length && ticks[bucket] == tick;
+    }
+
+    public int bucketCount() {
+        return ticks.length;
+    }
+
+    public int tickOf(int bucket) {
+        return ticks[bucket];
+    }
+
+    public int bucketStart(int bucket) {
+        return bucketStart[bucket];
+    }
+
+    public int bucketEnd(int bucket) {
+        return bucketStart[bucket + 1];
+    }
+
+    public Action get(int index) {
+        return actions[index];
+    }
+
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * Last action of the given type whose tick is at or before {@code tick}, or null.
+     */
+    public <T extends Action> T findLastBefore(Class<T> type, int tick) {
+        int end = seek(tick + 1);
+        for (int i = bucketStart[end] - 1; i >= 0; i--) {
+            Action action = actions[i];
+            if (type.isInstance(action)) return type.cast(action);
+        }
+        return null;
+    }
+}
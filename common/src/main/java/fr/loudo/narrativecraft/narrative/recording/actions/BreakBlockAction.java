@@ -28,6 +28,7 @@ import fr.loudo.narrativecraft.narrative.recording.actions.manager.ActionType;
 import fr.loudo.narrativecraft.util.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.block.BedBlock;
@@ -41,6 +42,8 @@ public class BreakBlockAction extends Action {
 
     private int x, y, z;
     private String data;
+    private transient RegistryAccess decodedFor;
+    private transient BlockState decodedState;
 
     public BreakBlockAction(int tick, BlockPos blockPos, BlockState blockState) {
         super(tick, ActionType.BLOCK_BREAK);
@@ -61,8 +64,7 @@ public class BreakBlockAction extends Action {
     @Override
     public void execute(PlaybackData playbackData) {
         BlockPos blockPos = new BlockPos(x, y, z);
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().registryAccess());
         if (blockState != null) {
             if (blockState.getBlock() instanceof BedBlock) {
                 if (blockState.getValue(BedBlock.PART) == BedPart.FOOT) {
@@ -81,8 +83,7 @@ public class BreakBlockAction extends Action {
     @Override
     public void rewind(PlaybackData playbackData) {
         if (!(playbackData.getEntity() instanceof LivingEntity)) return;
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().registryAccess());
         if (blockState == null) return;
         BlockPos blockPos = new BlockPos(x, y, z);
         Block block = blockState.getBlock();
@@ -108,4 +109,12 @@ public class BreakBlockAction extends Action {
                     blockState.getBlock().asItem().getDefaultInstance());
         }
     }
+
+    private BlockState getBlockState(RegistryAccess registryAccess) {
+        if (decodedFor != registryAccess) {
+            decodedState = Util.getBlockStateFromData(data, registryAccess);
+            decodedFor = registryAccess;
+        }
+        return decodedState;
+    }
 }
@@ -49,4 +49,9 @@ public class HurtAction extends Action {
 
     @Override
     public void rewind(PlaybackData playbackData) {}
+
+    @Override
+    public boolean isTransient() {
+        return true;
+    }
 }
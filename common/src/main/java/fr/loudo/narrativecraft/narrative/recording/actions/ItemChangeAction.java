@@ -45,6 +45,9 @@ public class ItemChangeAction extends Action {
     private final String data;
     private final String oldData;
     private final String equipmentSlot;
+    private transient RegistryAccess decodedFor;
+    private transient ItemStack decodedItem;
+    private transient ItemStack decodedOldItem;
 
     public ItemChangeAction(
             int waitTick,
@@ -73,31 +76,47 @@ public class ItemChangeAction extends Action {
     @Override
     public void execute(PlaybackData playbackData) {
         if (playbackData.getEntity() instanceof LivingEntity livingEntity) {
-            changeItem(livingEntity, itemId, data);
+            changeItem(livingEntity, false);
         }
     }
 
     @Override
     public void rewind(PlaybackData playbackData) {
         if (playbackData.getEntity() instanceof LivingEntity livingEntity) {
-            changeItem(livingEntity, oldItemId, oldData);
+            changeItem(livingEntity, true);
         }
     }
 
-    private void changeItem(LivingEntity entity, int itemId, String data) {
+    private void changeItem(LivingEntity entity, boolean old) {
+        ItemStack itemStack = getItemStack(entity.registryAccess(), old);
+        entity.level()
+                .getServer()
+                .getPlayerList()
+                .broadcastAll(new ClientboundSetEquipmentPacket(
+                        entity.getId(), List.of(new Pair<>(EquipmentSlot.valueOf(equipmentSlot), itemStack))));
+        entity.setItemSlot(EquipmentSlot.valueOf(equipmentSlot), itemStack);
+    }
+
+    // Components are decoded once per load and registry set. The entity keeps the stack it is
+    // given and may modify it, so each change gets its own copy.
+    private ItemStack getItemStack(RegistryAccess registryAccess, boolean old) {
+        if (decodedFor != registryAccess) {
+            decodedItem = decodeItem(itemId, data, registryAccess);
+            decodedOldItem = decodeItem(oldItemId, oldData, registryAccess);
+            decodedFor = registryAccess;
+        }
+        return (old ? decodedOldItem : decodedItem).copy();
+    }
+
+    private static ItemStack decodeItem(int itemId, String data, RegistryAccess registryAccess) {
         Item item = BuiltInRegistries.ITEM.byId(itemId);
         ItemStack itemStack = new ItemStack(item);
         if (data != null) {
             CompoundTag tag = Util.tagFromIdAndComponents(item, data);
             if (tag != null) {
-                itemStack = Util.generateItemStackFromNBT(tag, entity.registryAccess());
+                itemStack = Util.generateItemStackFromNBT(tag, registryAccess);
             }
         }
-        entity.level()
-                .getServer()
-                .getPlayerList()
-                .broadcastAll(new ClientboundSetEquipmentPacket(
-                        entity.getId(), List.of(new Pair<>(EquipmentSlot.valueOf(equipmentSlot), itemStack))));
-        entity.setItemSlot(EquipmentSlot.valueOf(equipmentSlot), itemStack);
+        return itemStack;
     }
 }
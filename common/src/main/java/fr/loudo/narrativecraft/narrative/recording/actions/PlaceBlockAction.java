@@ -28,6 +28,7 @@ import fr.loudo.narrativecraft.narrative.recording.actions.manager.ActionType;
 import fr.loudo.narrativecraft.util.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.level.block.BedBlock;
@@ -42,6 +43,8 @@ public class PlaceBlockAction extends Action {
 
     private int x, y, z;
     private String data;
+    private transient RegistryAccess decodedFor;
+    private transient BlockState decodedState;
 
     public PlaceBlockAction(int tick, BlockPos blockPos, BlockState blockState) {
         super(tick, ActionType.BLOCK_PLACE);
@@ -53,8 +56,7 @@ public class PlaceBlockAction extends Action {
 
     @Override
     public void execute(PlaybackData playbackData) {
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().registryAccess());
         if (blockState == null) return;
         BlockPos blockPos = new BlockPos(x, y, z);
         playbackData.getLevel().setBlock(blockPos, blockState, 3);
@@ -72,8 +74,7 @@ public class PlaceBlockAction extends Action {
 
     public void rewind(PlaybackData playbackData) {
         BlockPos blockPos = getBlockPos();
-        BlockState blockState =
-                Util.getBlockStateFromData(data, playbackData.getEntity().registryAccess());
+        BlockState blockState = getBlockState(playbackData.getEntity().registryAccess());
         if (blockState != null) {
             if (blockState.getBlock() instanceof BedBlock) {
                 if (blockState.getValue(BedBlock.PART) == BedPart.FOOT) {
@@ -92,4 +93,13 @@ public class PlaceBlockAction extends Action {
     public BlockPos getBlockPos() {
         return new BlockPos(x, y, z);
     }
+
+    // Decoded once per load and registry set, a looping playback runs the same action every cycle
+    private BlockState getBlockState(RegistryAccess registryAccess) {
+        if (decodedFor != registryAccess) {
+            decodedState = Util.getBlockStateFromData(data, registryAccess);
+            decodedFor = registryAccess;
+        }
+        return decodedState;
+    }
 }
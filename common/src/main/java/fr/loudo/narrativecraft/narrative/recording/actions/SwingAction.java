@@ -46,4 +46,9 @@ public class SwingAction extends Action {
 
     @Override
     public void rewind(PlaybackData playbackData) {}
+
+    @Override
+    public boolean isTransient() {
+        return true;
+    }
 }
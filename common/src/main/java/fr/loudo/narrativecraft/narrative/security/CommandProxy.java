@@ -26,6 +26,7 @@ package fr.loudo.narrativecraft.narrative.security;
 import fr.loudo.narrativecraft.narrative.validation.ValidationError;
 import fr.loudo.narrativecraft.narrative.validation.ValidationResult;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -134,6 +135,11 @@ public class CommandProxy {
             "seed" // Reveals world seed
             );
 
+    /**
+     * Number of cached verdicts after which the cache starts over.
+     */
+    private static final int MAX_CACHED_VERDICTS = 1024;
+
     /**
      * Pattern for validating command format.
      */
@@ -149,6 +155,11 @@ public class CommandProxy {
      */
     private final Set<String> customBlacklist;
 
+    /**
+     * Verdicts already given, keyed by command string. Cleared whenever a custom list changes.
+     */
+    private final Map<String, String> verdicts = new ConcurrentHashMap<>();
+
     public CommandProxy() {
         this.customWhitelist = new HashSet<>();
         this.customBlacklist = new HashSet<>();
@@ -169,39 +180,40 @@ public class CommandProxy {
                     "command", command, storyName, sceneName, lineNumber, "Empty command is not allowed"));
         }
 
-        String trimmedCommand = command.trim();
-        String commandName = extractCommandName(trimmedCommand);
+        if (verdicts.size() >= MAX_CACHED_VERDICTS) {
+            verdicts.clear();
+        }
+        String violation = verdicts.computeIfAbsent(command, this::findViolation);
+        if (violation.isEmpty()) {
+            return ValidationResult.success();
+        }
+        return ValidationResult.failure(ValidationError.securityViolation(
+                "command", command.trim(), storyName, sceneName, lineNumber, violation));
+    }
+
+    /**
+     * Reason a non-empty command is refused, or an empty string if it is allowed.
+     */
+    private String findViolation(String command) {
+        String commandName = extractCommandName(command.trim());
 
         if (commandName == null) {
-            return ValidationResult.failure(ValidationError.securityViolation(
-                    "command", trimmedCommand, storyName, sceneName, lineNumber, "Invalid command format"));
+            return "Invalid command format";
         }
 
         String lowerCommandName = commandName.toLowerCase();
 
         // Check explicit blocklist first (highest priority)
         if (isBlocked(lowerCommandName)) {
-            return ValidationResult.failure(ValidationError.securityViolation(
-                    "command",
-                    trimmedCommand,
-                    storyName,
-                    sceneName,
-                    lineNumber,
-                    "Command '" + commandName + "' is blocked for security reasons"));
+            return "Command '" + commandName + "' is blocked for security reasons";
         }
 
         // Check whitelist
         if (!isWhitelisted(lowerCommandName)) {
-            return ValidationResult.failure(ValidationError.securityViolation(
-                    "command",
-                    trimmedCommand,
-                    storyName,
-                    sceneName,
-                    lineNumber,
-                    "Command '" + commandName + "' is not in the allowed command list"));
+            return "Command '" + commandName + "' is not in the allowed command list";
         }
 
-        return ValidationResult.success();
+        return "";
     }
 
     /**
@@ -252,6 +264,7 @@ public class CommandProxy {
             throw new SecurityException("Cannot whitelist blocked command: " + commandName);
         }
         customWhitelist.add(lower);
+        verdicts.clear();
     }
 
     /**
@@ -261,6 +274,7 @@ public class CommandProxy {
      */
     public void addToBlacklist(String commandName) {
         customBlacklist.add(commandName.toLowerCase());
+        verdicts.clear();
     }
 
     /**
@@ -268,6 +282,7 @@ public class CommandProxy {
      */
     public void removeFromWhitelist(String commandName) {
         customWhitelist.remove(commandName.toLowerCase());
+        verdicts.clear();
     }
 
     /**
@@ -275,6 +290,7 @@ public class CommandProxy {
      */
     public void removeFromBlacklist(String commandName) {
         customBlacklist.remove(commandName.toLowerCase());
+        verdicts.clear();
     }
 
     /**
@@ -301,5 +317,6 @@ public class CommandProxy {
     public void resetCustomLists() {
         customWhitelist.clear();
         customBlacklist.clear();
+        verdicts.clear();
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.session;
+
+import fr.loudo.narrativecraft.controllers.interaction.InteractionController;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTrigger;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTriggerIndex;
+import java.util.List;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Remembers which area trigger a player was found in, so the lookup only runs again once the
+ * player moves to another block or the triggers change.
+ * <p>
+ * Trigger corners are whole block coordinates, so whether a trigger contains a position only
+ * depends on the block of each axis and on whether the coordinate sits exactly on that block's
+ * edge. Both are part of the cache key, the cached result is always the one a full scan would give.
+ */
+public class AreaTriggerTracker {
+
+    private AreaTriggerIndex[] indexes = new AreaTriggerIndex[0];
+    private int blockX, blockY, blockZ, onEdge = -1;
+    private AreaTrigger lastResult;
+
+    /**
+     * The trigger containing {@code position}, the last one in controller and trigger order when
+     * several do, or null.
+     */
+    public AreaTrigger find(List<InteractionController> controllers, Vec3 position) {
+        int x = Mth.floor(position.x);
+        int y = Mth.floor(position.y);
+        int z = Mth.floor(position.z);
+        int edge = (position.x == x ? 1 : 0) | (position.y == y ? 2 : 0) | (position.z == z ? 4 : 0);
+        boolean sameIndexes = refreshIndexes(controllers);
+        if (sameIndexes && onEdge == edge && blockX == x && blockY == y && blockZ == z) {
+            return lastResult;
+        }
+        blockX = x;
+        blockY = y;
+        blockZ = z;
+        onEdge = edge;
+        lastResult = null;
+        for (int i = indexes.length - 1; i >= 0 && lastResult == null; i--) {
+            lastResult = indexes[i].find(position.x, position.y, position.z);
+        }
+        return lastResult;
+    }
+
+    public void reset() {
+        indexes = new AreaTriggerIndex[0];
+        onEdge = -1;
+        lastResult = null;
+    }
+
+    // Returns false when a controller was added, removed or had its triggers changed
+    private boolean refreshIndexes(List<InteractionController> controllers) {
+        boolean same = indexes.length == controllers.size();
+        if (!same) indexes = new AreaTriggerIndex[controllers.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            AreaTriggerIndex index = controllers.get(i).getAreaTriggerIndex();
+            if (indexes[i] != index) {
+                indexes[i] = index;
+                same = false;
+            }
+        }
+        return same;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.session;
+
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+
+/**
+ * Decides when the server sends the cinematic camera pose to its player.
+ * <p>
+ * The client draws the camera from its own pose every frame, the server side position only has to
+ * stay close enough to keep the chunks and sounds around the camera. Small moves are held back and
+ * sent together once {@link NarrativeCraftConstants#CAMERA_SYNC_INTERVAL_TICKS} went by, a jump
+ * past {@link NarrativeCraftConstants#CAMERA_SYNC_DRIFT_DISTANCE} is sent right away. A camera that
+ * stops moving always gets its final pose sent.
+ */
+public class CameraSyncTracker {
+
+    private static final double POSITION_EPSILON = 1.0E-4;
+    private static final float ROTATION_EPSILON = 1.0E-3F;
+
+    private final KeyframeLocation lastSynced = new KeyframeLocation(0, 0, 0, 0, 0, 0, 0);
+    private boolean synced;
+    private int pendingTicks;
+
+    /**
+     * Called once per server tick with the current camera, returns true if it should be sent now.
+     */
+    public boolean shouldSync(KeyframeLocation camera) {
+        if (!synced) return true;
+        if (samePose(camera)) {
+            pendingTicks = 0;
+            return false;
+        }
+        double dx = camera.getX() - lastSynced.getX();
+        double dy = camera.getY() - lastSynced.getY();
+        double dz = camera.getZ() - lastSynced.getZ();
+        double drift = NarrativeCraftConstants.CAMERA_SYNC_DRIFT_DISTANCE;
+        return dx * dx + dy * dy + dz * dz >= drift * drift
+                || ++pendingTicks >= NarrativeCraftConstants.CAMERA_SYNC_INTERVAL_TICKS;
+    }
+
+    public void markSynced(KeyframeLocation camera) {
+        lastSynced.set(camera);
+        synced = true;
+        pendingTicks = 0;
+    }
+
+    public void reset() {
+        synced = false;
+        pendingTicks = 0;
+    }
+
+    private boolean samePose(KeyframeLocation camera) {
+        return Math.abs(camera.getX() - lastSynced.getX()) < POSITION_EPSILON
+                && Math.abs(camera.getY() - lastSynced.getY()) < POSITION_EPSILON
+                && Math.abs(camera.getZ() - lastSynced.getZ()) < POSITION_EPSILON
+                && Math.abs(camera.getYaw() - lastSynced.getYaw()) < ROTATION_EPSILON
+                && Math.abs(camera.getPitch() - lastSynced.getPitch()) < ROTATION_EPSILON;
+    }
+}
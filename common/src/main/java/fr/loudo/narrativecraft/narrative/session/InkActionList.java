@@ -0,0 +1,182 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.session;
+
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.narrative.story.inkAction.GameplayInkAction;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Ink actions of a session, with the client side and server side ones also kept in their own
+ * arrays so the tick and render loops don't have to filter the list every time.
+ * <p>
+ * Backed by a {@link CopyOnWriteArrayList}: iterating walks a snapshot, so actions can be added or
+ * removed while the list is looped over. Every change rebuilds the side arrays.
+ */
+public class InkActionList extends AbstractList<InkAction> implements RandomAccess {
+
+    private static final Sides NO_SIDES = new Sides(new InkAction[0], new InkAction[0], false);
+
+    private final CopyOnWriteArrayList<InkAction> inkActions = new CopyOnWriteArrayList<>();
+    private volatile Sides sides = NO_SIDES;
+
+    /**
+     * Client side actions, in insertion order. Shared between calls, must not be modified.
+     */
+    public InkAction[] getClientSide() {
+        return sides.client();
+    }
+
+    /**
+     * Server side actions, in insertion order. Shared between calls, must not be modified.
+     */
+    public InkAction[] getServerSide() {
+        return sides.server();
+    }
+
+    /**
+     * Whether a {@link GameplayInkAction} is in the list.
+     */
+    public boolean hasGameplay() {
+        return sides.gameplay();
+    }
+
+    @Override
+    public InkAction get(int index) {
+        return inkActions.get(index);
+    }
+
+    @Override
+    public int size() {
+        return inkActions.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return inkActions.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return inkActions.indexOf(o);
+    }
+
+    @Override
+    public Iterator<InkAction> iterator() {
+        return inkActions.iterator();
+    }
+
+    @Override
+    public Spliterator<InkAction> spliterator() {
+        return inkActions.spliterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return inkActions.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return inkActions.toArray(a);
+    }
+
+    @Override
+    public synchronized void add(int index, InkAction inkAction) {
+        inkActions.add(index, inkAction);
+        rebuild();
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends InkAction> c) {
+        return inkActions.addAll(c) && rebuild();
+    }
+
+    @Override
+    public synchronized InkAction set(int index, InkAction inkAction) {
+        InkAction previous = inkActions.set(index, inkAction);
+        rebuild();
+        return previous;
+    }
+
+    @Override
+    public synchronized InkAction remove(int index) {
+        InkAction removed = inkActions.remove(index);
+        rebuild();
+        return removed;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        return inkActions.remove(o) && rebuild();
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super InkAction> filter) {
+        return inkActions.removeIf(filter) && rebuild();
+    }
+
+    @Override
+    public synchronized boolean removeAll(Collection<?> c) {
+        return inkActions.removeAll(c) && rebuild();
+    }
+
+    @Override
+    public synchronized boolean retainAll(Collection<?> c) {
+        return inkActions.retainAll(c) && rebuild();
+    }
+
+    @Override
+    public synchronized void clear() {
+        inkActions.clear();
+        sides = NO_SIDES;
+    }
+
+    // Always returns true so mutators can chain it after a successful change
+    private boolean rebuild() {
+        List<InkAction> client = new ArrayList<>();
+        List<InkAction> server = new ArrayList<>();
+        boolean gameplay = false;
+        for (InkAction inkAction : inkActions) {
+            if (inkAction.getSide() == InkAction.Side.CLIENT) {
+                client.add(inkAction);
+            } else if (inkAction.getSide() == InkAction.Side.SERVER) {
+                server.add(inkAction);
+            }
+            gameplay |= inkAction instanceof GameplayInkAction;
+        }
+        sides = new Sides(client.toArray(new InkAction[0]), server.toArray(new InkAction[0]), gameplay);
+        return true;
+    }
+
+    private record Sides(InkAction[] client, InkAction[] server, boolean gameplay) {}
+}
@@ -0,0 +1,188 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.narrative.session;
+
+import fr.loudo.narrativecraft.controllers.interaction.InteractionController;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.CharacterInteraction;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.EntityInteraction;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Finds the interaction entity a player is looking at.
+ * <p>
+ * Every interaction in reach is first tested against the view cone with a dot product, which is
+ * never stricter than the look check itself. Only the nearest cone candidates, at most
+ * {@link NarrativeCraftConstants#INTERACTION_LOOK_MAX_CANDIDATES}, go through the look check and its
+ * line of sight ray, and the first that passes wins. When neither the player's head nor any
+ * candidate moved since the last tick the previous result is kept without checking again.
+ */
+public class InteractionLookTracker {
+
+    private static final double CHARACTER_TOLERANCE = 0.2;
+    private static final double ENTITY_TOLERANCE = 0.05;
+    // Pose of the head the last result was computed from: eye x, y, z, pitch, yaw
+    private final double[] pose = new double[5];
+    private LivingEntity[] entities = new LivingEntity[8];
+    private double[] tolerances = new double[8];
+    private double[] distances = new double[8];
+    // x, y, z per candidate, for the current and the previous tick
+    private double[] positions = new double[24];
+    private double[] lastPositions = new double[24];
+    private LivingEntity[] lastEntities = new LivingEntity[8];
+    private int[] order = new int[8];
+    private int count;
+    private int lastCount = -1;
+    private int lastResult = -1;
+
+    /**
+     * Check the player runs on a candidate that passed the cone test, {@code targetY} is the height
+     * aimed at on the target.
+     */
+    @FunctionalInterface
+    public interface LookCheck {
+        boolean isLookingAt(LivingEntity target, double tolerance, double targetY);
+    }
+
+    /**
+     * Id of the interaction entity the player is looking at, or -1. Interactions whose stitch is
+     * {@code skippedStitch} are ignored.
+     */
+    public int find(
+            List<InteractionController> controllers, Player player, String skippedStitch, LookCheck lookCheck) {
+        Vec3 eye = player.getEyePosition();
+        Vec3 view = player.getViewVector(1.0F);
+        count = 0;
+        for (InteractionController interactionController : controllers) {
+            for (CharacterInteraction characterInteraction : interactionController.getCharacterInteractions()) {
+                if (isSkipped(characterInteraction.getStitch(), skippedStitch)) continue;
+                if (characterInteraction.getCharacterStoryData().getCharacterRuntime().getEntity()
+                        instanceof LivingEntity livingEntity) {
+                    addCandidate(livingEntity, CHARACTER_TOLERANCE, player.position(), eye, view);
+                }
+            }
+            for (EntityInteraction entityInteraction : interactionController.getEntityInteractions()) {
+                if (isSkipped(entityInteraction.getStitch(), skippedStitch)) continue;
+                if (entityInteraction.getArmorStand() != null) {
+                    addCandidate(entityInteraction.getArmorStand(), ENTITY_TOLERANCE, player.position(), eye, view);
+                }
+            }
+        }
+        if (samePose(eye, player.getXRot(), player.getYRot()) && sameCandidates()) {
+            return lastResult;
+        }
+        pose[0] = eye.x;
+        pose[1] = eye.y;
+        pose[2] = eye.z;
+        pose[3] = player.getXRot();
+        pose[4] = player.getYRot();
+        lastResult = checkNearest(lookCheck);
+        keepCandidates();
+        return lastResult;
+    }
+
+    public void reset() {
+        lastCount = -1;
+        lastResult = -1;
+        Arrays.fill(lastEntities, null);
+    }
+
+    private static boolean isSkipped(String stitch, String skippedStitch) {
+        return stitch.isEmpty() || stitch.equals(skippedStitch);
+    }
+
+    private void addCandidate(LivingEntity entity, double tolerance, Vec3 feet, Vec3 eye, Vec3 view) {
+        double reach = NarrativeCraftConstants.INTERACTION_LOOK_DISTANCE;
+        if (feet.distanceToSqr(entity.position()) > reach * reach) return;
+        double dx = entity.getX() - eye.x;
+        double dy = entity.getY() + entity.getBbHeight() / 2 - eye.y;
+        double dz = entity.getZ() - eye.z;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0) return;
+        // The look check scales its tolerance down with distance, never below the unscaled one
+        double dot = (view.x * dx + view.y * dy + view.z * dz) / length;
+        if (dot <= 1.0 - tolerance / Math.min(length, 1.0)) return;
+        if (count == entities.length) grow();
+        entities[count] = entity;
+        tolerances[count] = tolerance;
+        distances[count] = length;
+        positions[count * 3] = entity.getX();
+        positions[count * 3 + 1] = entity.getY();
+        positions[count * 3 + 2] = entity.getZ();
+        // Insertion into the nearest first order, candidate lists are a handful of entities
+        int slot = count;
+        while (slot > 0 && distances[order[slot - 1]] > length) {
+            order[slot] = order[slot - 1];
+            slot--;
+        }
+        order[slot] = count;
+        count++;
+    }
+
+    private int checkNearest(LookCheck lookCheck) {
+        int checks = Math.min(count, NarrativeCraftConstants.INTERACTION_LOOK_MAX_CANDIDATES);
+        for (int i = 0; i < checks; i++) {
+            LivingEntity entity = entities[order[i]];
+            if (lookCheck.isLookingAt(entity, tolerances[order[i]], entity.getY() + entity.getBbHeight() / 2)) {
+                return entity.getId();
+            }
+        }
+        return -1;
+    }
+
+    private boolean samePose(Vec3 eye, float pitch, float yaw) {
+        return pose[0] == eye.x && pose[1] == eye.y && pose[2] == eye.z && pose[3] == pitch && pose[4] == yaw;
+    }
+
+    private boolean sameCandidates() {
+        if (count != lastCount) return false;
+        for (int i = 0; i < count; i++) {
+            if (entities[i] != lastEntities[i]) return false;
+        }
+        return Arrays.equals(positions, 0, count * 3, lastPositions, 0, count * 3);
+    }
+
+    private void keepCandidates() {
+        if (lastEntities.length < entities.length) {
+            lastEntities = new LivingEntity[entities.length];
+            lastPositions = new double[positions.length];
+        }
+        System.arraycopy(entities, 0, lastEntities, 0, count);
+        System.arraycopy(positions, 0, lastPositions, 0, count * 3);
+        lastCount = count;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        tolerances = Arrays.copyOf(tolerances, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        positions = Arrays.copyOf(positions, capacity * 3);
+        order = Arrays.copyOf(order, capacity);
+    }
+}
@@ -39,10 +39,8 @@ import fr.loudo.narrativecraft.narrative.inkTag.InkTagHandler;
 import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
 import fr.loudo.narrativecraft.narrative.recording.Location;
 import fr.loudo.narrativecraft.narrative.story.StoryHandler;
-import fr.loudo.narrativecraft.narrative.story.inkAction.GameplayInkAction;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.GameType;
@@ -51,16 +49,21 @@ public class PlayerSession {
 
     private final ServerPlayer player;
     private final PlaybackManager playbackManager = new PlaybackManager();
-    private final List<InkAction> inkActions = new CopyOnWriteArrayList<>();
+    private final InkActionList inkActions = new InkActionList();
     private final List<CharacterRuntime> characterRuntimes = new ArrayList<>();
     private final InkTagHandler inkTagHandler;
     private final StorySaveIconGui storySaveIconGui = new StorySaveIconGui(0.2, 0.9, 0.2);
     private final List<InteractionController> interactionControllers = new ArrayList<>();
     private final List<AreaTrigger> areaTriggersEntered = new ArrayList<>();
+    private final AreaTriggerTracker areaTriggerTracker = new AreaTriggerTracker();
+    private final InteractionLookTracker interactionLookTracker = new InteractionLookTracker();
     private AbstractController controller;
     private DialogRenderer dialogRenderer;
-    private KeyframeLocation currentCamera;
-    private KeyframeLocation lastSyncedCamera;
+    // Set from the render thread during cutscenes, read by the server thread syncing the camera
+    private volatile KeyframeLocation currentCamera;
+    // Tick rate copy of a current camera that is written in place every frame, read by the server
+    private volatile KeyframeLocation publishedCamera;
+    private final CameraSyncTracker cameraSyncTracker = new CameraSyncTracker();
     private StoryHandler storyHandler;
     private AreaTrigger lastAreaTriggerEntered;
     private StitchInteraction lastInteraction;
@@ -123,18 +126,12 @@ public class PlayerSession {
         return inkActions;
     }
 
-    // Using CopyOnWriteArrayList for thread-safe iteration (fixes ConcurrentModificationException)
-
-    public List<InkAction> getClientSideInkActions() {
-        return inkActions.stream()
-                .filter(inkAction -> inkAction.getSide() != null && inkAction.getSide() == InkAction.Side.CLIENT)
-                .toList();
+    public InkAction[] getClientSideInkActions() {
+        return inkActions.getClientSide();
     }
 
-    public List<InkAction> getServerSideInkActions() {
-        return inkActions.stream()
-                .filter(inkAction -> inkAction.getSide() != null && inkAction.getSide() == InkAction.Side.SERVER)
-                .toList();
+    public InkAction[] getServerSideInkActions() {
+        return inkActions.getServerSide();
     }
 
     public InkTagHandler getInkTagHandler() {
@@ -168,12 +165,7 @@ public class PlayerSession {
     }
 
     public boolean isOnGameplay() {
-        for (InkAction inkAction : inkActions) {
-            if (inkAction instanceof GameplayInkAction) {
-                return true;
-            }
-        }
-        return false;
+        return inkActions.hasGameplay();
     }
 
     public List<AreaTrigger> getAreaTriggersEntered() {
@@ -193,12 +185,21 @@ public class PlayerSession {
         return lastAreaTriggerEntered;
     }
 
+    public AreaTriggerTracker getAreaTriggerTracker() {
+        return areaTriggerTracker;
+    }
+
+    public InteractionLookTracker getInteractionLookTracker() {
+        return interactionLookTracker;
+    }
+
     public StitchInteraction getLastInteraction() {
         return lastInteraction;
     }
 
     public void setLastInteraction(StitchInteraction lastInteraction) {
         this.lastInteraction = lastInteraction;
+        interactionLookTracker.reset();
     }
 
     public void setLastAreaTriggerEntered(AreaTrigger lastAreaTriggerEntered) {
@@ -261,6 +262,24 @@ public class PlayerSession {
         return currentCamera;
     }
 
+    /**
+     * Camera the server syncs the player to: the last copy from {@link #publishCamera} if the current
+     * camera is written in place, the current camera otherwise.
+     */
+    public KeyframeLocation getSyncCamera() {
+        KeyframeLocation published = publishedCamera;
+        return published != null ? published : currentCamera;
+    }
+
+    /**
+     * Copy the current camera for the server, for a camera written in place every frame. Dropped
+     * once the current camera is replaced.
+     */
+    public void publishCamera() {
+        KeyframeLocation camera = currentCamera;
+        publishedCamera = camera == null ? null : new KeyframeLocation(0, 0, 0, 0, 0, 0, 0).set(camera);
+    }
+
     public StoryHandler getStoryHandler() {
         return storyHandler;
     }
@@ -270,9 +289,10 @@ public class PlayerSession {
     }
 
     public void setCurrentCamera(KeyframeLocation currentCamera) {
+        publishedCamera = null;
         this.currentCamera = currentCamera;
         if (currentCamera == null) {
-            lastSyncedCamera = null;
+            cameraSyncTracker.reset();
             if (lastGameType != null) {
                 player.setGameMode(lastGameType);
             }
@@ -285,28 +305,11 @@ public class PlayerSession {
     }
 
     public boolean shouldSyncCamera(KeyframeLocation camera) {
-        return lastSyncedCamera == null || !sameCameraPose(camera, lastSyncedCamera);
+        return cameraSyncTracker.shouldSync(camera);
     }
 
     public void markCameraSynced(KeyframeLocation camera) {
-        lastSyncedCamera = new KeyframeLocation(
-                camera.getX(),
-                camera.getY(),
-                camera.getZ(),
-                camera.getPitch(),
-                camera.getYaw(),
-                camera.getRoll(),
-                camera.getFov());
-    }
-
-    private boolean sameCameraPose(KeyframeLocation a, KeyframeLocation b) {
-        final double posEpsilon = 1.0E-4;
-        final float rotEpsilon = 1.0E-3F;
-        return Math.abs(a.getX() - b.getX()) < posEpsilon
-                && Math.abs(a.getY() - b.getY()) < posEpsilon
-                && Math.abs(a.getZ() - b.getZ()) < posEpsilon
-                && Math.abs(a.getYaw() - b.getYaw()) < rotEpsilon
-                && Math.abs(a.getPitch() - b.getPitch()) < rotEpsilon;
+        cameraSyncTracker.markSynced(camera);
     }
 
     public StorySaveIconGui getStorySaveIconGui() {
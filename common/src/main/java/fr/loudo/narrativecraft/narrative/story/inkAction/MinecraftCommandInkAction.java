@@ -23,6 +23,7 @@
 
 package fr.loudo.narrativecraft.narrative.story.inkAction;
 
+import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.ParseResults;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -33,14 +34,24 @@ import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
 import fr.loudo.narrativecraft.narrative.session.PlayerSession;
 import fr.loudo.narrativecraft.util.Translation;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import net.minecraft.commands.CommandSource;
 import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.permissions.PermissionSet;
 
 public class MinecraftCommandInkAction extends InkAction {
 
+    private static final Queue<Runnable> PENDING_COMMANDS = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean BATCH_SCHEDULED = new AtomicBoolean();
+
     private String command;
+    // Kept from validation and bound to the player's source when the command runs
+    private ParseResults<CommandSourceStack> parseResults;
 
     public MinecraftCommandInkAction(String id, Side side, String syntax, CommandMatcher matcher) {
         super(id, side, syntax, matcher);
@@ -68,29 +79,74 @@ public class MinecraftCommandInkAction extends InkAction {
                         Translation.message(WRONG_ARGUMENT_TEXT, "Command can't be executed: " + commandError));
             }
         }
+        parseResults = parse;
         return InkActionResult.ok();
     }
 
     @Override
     protected InkActionResult doExecute(PlayerSession playerSession) {
-        CommandSourceStack commandSourceStack = getCommandSourceStack(playerSession);
-        command = command.replace("@p", playerSession.getPlayer().getName().getString());
-        try {
-            playerSession
-                    .getPlayer()
-                    .level()
-                    .getServer()
-                    .getCommands()
-                    .getDispatcher()
-                    .execute(command, commandSourceStack);
-        } catch (CommandSyntaxException e) {
-            return InkActionResult.error(
-                    Translation.message(WRONG_ARGUMENT_TEXT, "Command can't be executed: " + e.getMessage()));
+        MinecraftServer server = playerSession.getPlayer().level().getServer();
+        if (server.isSameThread()) {
+            try {
+                runCommand(server, playerSession);
+            } catch (CommandSyntaxException e) {
+                return InkActionResult.error(
+                        Translation.message(WRONG_ARGUMENT_TEXT, "Command can't be executed: " + e.getMessage()));
+            }
+        } else {
+            submit(server, () -> {
+                try {
+                    runCommand(server, playerSession);
+                } catch (CommandSyntaxException e) {
+                    NarrativeCraftMod.LOGGER.error("Command can't be executed: {}", e.getMessage());
+                }
+            });
         }
         isRunning = false;
         return InkActionResult.ok();
     }
 
+    private void runCommand(MinecraftServer server, PlayerSession playerSession) throws CommandSyntaxException {
+        CommandSourceStack commandSourceStack = getCommandSourceStack(playerSession);
+        CommandDispatcher<CommandSourceStack> dispatcher = server.getCommands().getDispatcher();
+        // Swapping @p for the player name changes the command, so it can't reuse the validated parse
+        if (parseResults == null || command.contains("@p")) {
+            String playerName = playerSession.getPlayer().getName().getString();
+            dispatcher.execute(command.replace("@p", playerName), commandSourceStack);
+            return;
+        }
+        dispatcher.execute(Commands.mapSource(parseResults, source -> commandSourceStack));
+    }
+
+    // Commands fired from outside the server thread are queued, and the queue is run by a single server
+    // task, so a burst of command tags costs one task instead of one each
+    private static void submit(MinecraftServer server, Runnable task) {
+        PENDING_COMMANDS.add(task);
+        if (BATCH_SCHEDULED.compareAndSet(false, true)) {
+            server.execute(MinecraftCommandInkAction::runPendingCommands);
+        }
+    }
+
+    private static void runPendingCommands() {
+        BATCH_SCHEDULED.set(false);
+        Runnable task;
+        while ((task = PENDING_COMMANDS.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                NarrativeCraftMod.LOGGER.error("Error running queued command: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops commands still queued for a stopping server, so none of them runs against the next one.
+     */
+    public static void clearPendingCommands() {
+        PENDING_COMMANDS.clear();
+        BATCH_SCHEDULED.set(false);
+    }
+
     private CommandSourceStack getCommandSourceStack(PlayerSession playerSession) {
         ServerPlayer player = playerSession.getPlayer();
         CommandSource commandSource = CommandSource.NULL;
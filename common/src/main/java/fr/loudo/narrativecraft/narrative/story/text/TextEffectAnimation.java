@@ -26,35 +26,39 @@ package fr.loudo.narrativecraft.narrative.story.text;
 import fr.loudo.narrativecraft.narrative.dialog.DialogAnimationType;
 import fr.loudo.narrativecraft.narrative.dialog.DialogLetterEffect;
 import fr.loudo.narrativecraft.util.NarrativeProfiler;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
-import org.joml.Vector2f;
 
 public class TextEffectAnimation {
 
-    // T095: Reusable Vector2f for zero offset to avoid allocation
-    private static final Vector2f ZERO_OFFSET = new Vector2f(0, 0);
-
     private final List<DialogLetterEffect> dialogLetterEffectList;
-    private final Map<Integer, Vector2f> letterOffsets = new HashMap<>();
-    private final Map<Integer, Vector2f> oldLetterOffsets = new HashMap<>();
-    // T095: Reusable map for interpolation results to avoid HashMap allocation per getOffsets() call
-    private final Map<Integer, Vector2f> interpolatedCache = new HashMap<>();
+    // Offsets indexed by letter, letters without a moving effect stay at 0
+    private final float[] offsetX;
+    private final float[] offsetY;
+    private final float[] oldOffsetX;
+    private final float[] oldOffsetY;
+    private final RandomSource random = RandomSource.create();
     private int tickCounter;
 
     public TextEffectAnimation(ParsedDialog parsedDialog) {
         dialogLetterEffectList = TextEffect.apply(parsedDialog.effects());
+        int letterCount = parsedDialog.cleanedText().length();
+        for (DialogLetterEffect dialogLetterEffect : dialogLetterEffectList) {
+            letterCount = Math.max(letterCount, dialogLetterEffect.getEndIndex());
+        }
+        offsetX = new float[letterCount];
+        offsetY = new float[letterCount];
+        oldOffsetX = new float[letterCount];
+        oldOffsetY = new float[letterCount];
     }
 
     public void tick() {
         NarrativeProfiler.start(NarrativeProfiler.TEXT_EFFECTS);
         tickCounter++;
 
-        oldLetterOffsets.clear();
-        oldLetterOffsets.putAll(letterOffsets);
+        System.arraycopy(offsetX, 0, oldOffsetX, 0, offsetX.length);
+        System.arraycopy(offsetY, 0, oldOffsetY, 0, offsetY.length);
 
         // T098: Replace stream().filter().toList() with direct loop
         // Before: dialogLetterEffectList.stream().filter(...).toList()
@@ -64,37 +68,26 @@ public class TextEffectAnimation {
                 continue; // T098: Inline filter instead of stream filter
             }
             dialogLetterEffect.tick();
+            int start = Math.max(0, dialogLetterEffect.getStartIndex());
+            int end = dialogLetterEffect.getEndIndex();
             if (dialogLetterEffect.getAnimation() == DialogAnimationType.SHAKE) {
-
-                for (int j = dialogLetterEffect.getStartIndex(); j < dialogLetterEffect.getEndIndex(); j++) {
-                    RandomSource randomSource = RandomSource.create();
-                    float offsetX = 0;
-                    float offsetY = 0;
-                    if (dialogLetterEffect.canApplyEffect()) {
-                        offsetX = Mth.randomBetween(
-                                randomSource, -dialogLetterEffect.getForce(), dialogLetterEffect.getForce());
-                        offsetY = Mth.randomBetween(
-                                randomSource, -dialogLetterEffect.getForce(), dialogLetterEffect.getForce());
-                    } else if (letterOffsets.containsKey(j)) {
-                        offsetX = letterOffsets.get(j).x;
-                        offsetY = letterOffsets.get(j).y;
-                    }
-                    // T095: Reuse Vector2f or update in place to reduce allocations
-                    Vector2f offset = letterOffsets.computeIfAbsent(j, k -> new Vector2f());
-                    offset.set(offsetX, offsetY);
-                    Vector2f oldOffset = oldLetterOffsets.computeIfAbsent(j, k -> new Vector2f());
-                    oldOffset.set(offsetX, offsetY);
+                if (!dialogLetterEffect.canApplyEffect()) continue;
+                float force = dialogLetterEffect.getForce();
+                for (int j = start; j < end; j++) {
+                    offsetX[j] = Mth.randomBetween(random, -force, force);
+                    offsetY[j] = Mth.randomBetween(random, -force, force);
+                    // Shaking letters jump, they are not interpolated between two ticks
+                    oldOffsetX[j] = offsetX[j];
+                    oldOffsetY[j] = offsetY[j];
                 }
 
             } else if (dialogLetterEffect.getAnimation() == DialogAnimationType.WAVE) {
                 float waveSpacing = 0.2f;
                 double waveSpeed = (double) tickCounter / dialogLetterEffect.getTotalTick();
 
-                for (int j = dialogLetterEffect.getStartIndex(); j < dialogLetterEffect.getEndIndex(); j++) {
-                    float offsetY = (float) (Math.sin(waveSpeed + j * waveSpacing) * dialogLetterEffect.getForce());
-                    // T095: Reuse Vector2f instead of allocating new one each tick
-                    Vector2f offset = letterOffsets.computeIfAbsent(j, k -> new Vector2f());
-                    offset.set(0, offsetY);
+                for (int j = start; j < end; j++) {
+                    offsetX[j] = 0;
+                    offsetY[j] = (float) (Math.sin(waveSpeed + j * waveSpacing) * dialogLetterEffect.getForce());
                 }
             }
         }
@@ -116,25 +109,13 @@ public class TextEffectAnimation {
         return true;
     }
 
-    public Map<Integer, Vector2f> getOffsets(float partialTick) {
-        // T095: Reuse cached map instead of allocating new HashMap each call
-        // Before: Map<Integer, Vector2f> interpolated = new HashMap<>();
-        // After: Clear and reuse interpolatedCache
-        interpolatedCache.clear();
-
-        for (int j : letterOffsets.keySet()) {
-            // T095: Use static ZERO_OFFSET instead of new Vector2f(0, 0)
-            Vector2f oldOffset = oldLetterOffsets.getOrDefault(j, ZERO_OFFSET);
-            Vector2f newOffset = letterOffsets.get(j);
-
-            float x = Mth.lerp(partialTick, oldOffset.x, newOffset.x);
-            float y = Mth.lerp(partialTick, oldOffset.y, newOffset.y);
-
-            // T095: Reuse Vector2f from cache or create once
-            Vector2f interpolatedOffset = interpolatedCache.computeIfAbsent(j, k -> new Vector2f());
-            interpolatedOffset.set(x, y);
-        }
+    public float getOffsetX(int index, float partialTick) {
+        if (index < 0 || index >= offsetX.length) return 0;
+        return Mth.lerp(partialTick, oldOffsetX[index], offsetX[index]);
+    }
 
-        return interpolatedCache;
+    public float getOffsetY(int index, float partialTick) {
+        if (index < 0 || index >= offsetY.length) return 0;
+        return Mth.lerp(partialTick, oldOffsetY[index], offsetY[index]);
     }
 }
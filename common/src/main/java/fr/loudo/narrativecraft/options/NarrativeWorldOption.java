@@ -23,10 +23,13 @@
 
 package fr.loudo.narrativecraft.options;
 
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+
 public class NarrativeWorldOption {
     public boolean finishedStory = false;
     public boolean showMainScreen = false;
     public boolean showCreditsScreen = true;
     public String stringMcVersion = "";
     public String ncVersion = "1.0.0";
+    public int recordingScanInterval = NarrativeCraftConstants.RECORDING_SCAN_INTERVAL;
 }
@@ -180,6 +180,7 @@ public class KeyframeTriggerScreen extends Screen {
                     } else {
                         keyframeTrigger.setTick(tick);
                         keyframeTrigger.setCommands(commands);
+                        controller.invalidateTriggerScheduler();
                     }
                     this.onClose();
                 })
@@ -0,0 +1,307 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
+import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.LocationTrack;
+import fr.loudo.narrativecraft.narrative.recording.actions.Action;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import fr.loudo.narrativecraft.narrative.recording.actions.manager.ActionType;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Versioned binary format for recorded animations.
+ *
+ * Layout (after the raw header, the body is optionally deflated):
+ * <pre>
+ *   header   : magic "NCAN" (int), version (byte), flags (byte)
+ *   animation: name, description, skin name, character name, tick length
+ *   tracks   : count, then per {@link ActionsData}:
+ *              entity id, recording id, spawn tick, nbt,
+ *              location count, x/y/z/pitch/yaw delta columns, onGround bitset,
+ *              action count, then per action: {@link ActionType} ordinal, tick, fields
+ * </pre>
+ * Positions are stored as 1/4096 block fixed-point and rotations as 1/256 degree,
+ * delta-encoded between ticks as zigzag varints, so standing still costs one byte per column.
+ * Action fields are written as compact JSON because their shapes differ per action type and
+ * per Minecraft version; the deflate layer takes care of their redundancy.
+ *
+ * The animation block comes first so {@link #readHeader} can stop there and leave the
+ * tracks on disk until the animation is played.
+ */
+public final class AnimationBinaryCodec {
+
+    public static final int MAGIC = 0x4E43414E;
+    public static final int VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+    private static final double POSITION_SCALE = 4096.0;
+    private static final double ROTATION_SCALE = 256.0;
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+    private static final Gson GSON = new Gson();
+
+    private AnimationBinaryCodec() {}
+
+    public static void write(Animation animation, OutputStream output, boolean compress) throws IOException {
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(compress ? FLAG_DEFLATE : 0);
+        header.flush();
+
+        DeflaterOutputStream deflater = compress ? new DeflaterOutputStream(output) : null;
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(deflater != null ? deflater : output));
+        writeString(out, animation.getName());
+        writeString(out, animation.getDescription());
+        writeString(out, animation.getSkinName());
+        writeString(
+                out, animation.getCharacter() == null ? null : animation.getCharacter().getName());
+
+        List<ActionsData> tracks = animation.getActionsData();
+        writeVarLong(out, tracks.isEmpty() ? 0 : tracks.getFirst().getLocations().size());
+        writeVarLong(out, tracks.size());
+        for (ActionsData actionsData : tracks) {
+            writeTrack(out, actionsData);
+        }
+        out.flush();
+        if (deflater != null) deflater.finish();
+    }
+
+    public static Animation read(InputStream input, Scene scene) throws IOException {
+        DataInputStream in = openBody(input);
+        Animation animation = readAnimationBlock(in, scene);
+        animation.setActionsData(readTracks(in));
+        return animation;
+    }
+
+    /**
+     * Read only the animation block (name, skin, character, tick length).
+     */
+    public static Animation readHeader(InputStream input, Scene scene) throws IOException {
+        return readAnimationBlock(openBody(input), scene);
+    }
+
+    /**
+     * Read only the recorded tracks, skipping the animation block.
+     */
+    public static List<ActionsData> readActionsData(InputStream input) throws IOException {
+        DataInputStream in = openBody(input);
+        readAnimationBlock(in, null);
+        return readTracks(in);
+    }
+
+    private static DataInputStream openBody(InputStream input) throws IOException {
+        DataInputStream header = new DataInputStream(input);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a NarrativeCraft animation file");
+        }
+        int version = header.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Unsupported animation file version " + version + " (max " + VERSION + ")");
+        }
+        int flags = header.readUnsignedByte();
+        InputStream body = (flags & FLAG_DEFLATE) != 0 ? new InflaterInputStream(input) : input;
+        return new DataInputStream(new BufferedInputStream(body));
+    }
+
+    private static Animation readAnimationBlock(DataInputStream in, Scene scene) throws IOException {
+        Animation animation = new Animation(readString(in), scene);
+        animation.setDescription(readString(in));
+        animation.setSkinName(readString(in));
+        String characterName = readString(in);
+        if (scene != null) {
+            animation.setCharacter(AnimationSerializer.resolveCharacter(scene, characterName));
+        }
+        animation.setTickLength((int) readVarLong(in));
+        return animation;
+    }
+
+    private static List<ActionsData> readTracks(DataInputStream in) throws IOException {
+        int trackCount = (int) readVarLong(in);
+        List<ActionsData> tracks = new ArrayList<>(trackCount);
+        for (int i = 0; i < trackCount; i++) {
+            tracks.add(readTrack(in));
+        }
+        return tracks;
+    }
+
+    private static void writeTrack(DataOutputStream out, ActionsData actionsData) throws IOException {
+        writeVarLong(out, actionsData.getEntityId());
+        writeVarLong(out, zigzag(actionsData.getEntityIdRecording()));
+        writeVarLong(out, actionsData.getSpawnTick());
+        writeString(out, actionsData.getNbtData());
+
+        List<Location> locations = actionsData.getLocations();
+        int count = locations.size();
+        writeVarLong(out, count);
+        long previous = 0;
+        for (Location location : locations) previous = writeDelta(out, location.x() * POSITION_SCALE, previous);
+        previous = 0;
+        for (Location location : locations) previous = writeDelta(out, location.y() * POSITION_SCALE, previous);
+        previous = 0;
+        for (Location location : locations) previous = writeDelta(out, location.z() * POSITION_SCALE, previous);
+        previous = 0;
+        for (Location location : locations) previous = writeDelta(out, location.pitch() * ROTATION_SCALE, previous);
+        previous = 0;
+        for (Location location : locations) previous = writeDelta(out, location.yaw() * ROTATION_SCALE, previous);
+        BitSet onGround = new BitSet(count);
+        for (int i = 0; i < count; i++) {
+            if (locations.get(i).onGround()) onGround.set(i);
+        }
+        byte[] onGroundBytes = onGround.toByteArray();
+        writeVarLong(out, onGroundBytes.length);
+        out.write(onGroundBytes);
+
+        List<Action> actions = actionsData.getActions().stream()
+                .filter(action -> action != null && action.getActionType() != null)
+                .toList();
+        writeVarLong(out, actions.size());
+        for (Action action : actions) {
+            writeVarLong(out, action.getActionType().ordinal());
+            writeVarLong(out, action.getTick());
+            JsonObject fields = GSON.toJsonTree(action).getAsJsonObject();
+            fields.remove("tick");
+            fields.remove("actionType");
+            writeString(out, fields.toString());
+        }
+    }
+
+    private static ActionsData readTrack(DataInputStream in) throws IOException {
+        int entityId = (int) readVarLong(in);
+        int entityIdRecording = (int) unzigzag(readVarLong(in));
+        int spawnTick = (int) readVarLong(in);
+        String nbtData = readString(in);
+
+        int count = (int) readVarLong(in);
+        long[] x = readDeltaColumn(in, count);
+        long[] y = readDeltaColumn(in, count);
+        long[] z = readDeltaColumn(in, count);
+        long[] pitch = readDeltaColumn(in, count);
+        long[] yaw = readDeltaColumn(in, count);
+        byte[] onGroundBytes = new byte[(int) readVarLong(in)];
+        in.readFully(onGroundBytes);
+        BitSet onGround = BitSet.valueOf(onGroundBytes);
+        LocationTrack locations = new LocationTrack();
+        for (int i = 0; i < count; i++) {
+            locations.append(
+                    x[i] / POSITION_SCALE,
+                    y[i] / POSITION_SCALE,
+                    z[i] / POSITION_SCALE,
+                    (float) (pitch[i] / ROTATION_SCALE),
+                    (float) (yaw[i] / ROTATION_SCALE),
+                    onGround.get(i));
+        }
+
+        int actionCount = (int) readVarLong(in);
+        List<Action> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            int ordinal = (int) readVarLong(in);
+            int tick = (int) readVarLong(in);
+            String fields = readString(in);
+            // Action types added by a newer version are skipped, like unknown types in JSON
+            if (ordinal >= ACTION_TYPES.length) continue;
+            ActionType actionType = ACTION_TYPES[ordinal];
+            JsonObject json = JsonParser.parseString(fields).getAsJsonObject();
+            json.addProperty("tick", tick);
+            json.addProperty("actionType", actionType.name());
+            actions.add(GSON.fromJson(json, actionType.getActionClass()));
+        }
+        return new ActionsData(entityId, entityIdRecording, spawnTick, nbtData, locations, actions);
+    }
+
+    private static long writeDelta(DataOutputStream out, double scaled, long previous) throws IOException {
+        long value = Math.round(scaled);
+        writeVarLong(out, zigzag(value - previous));
+        return value;
+    }
+
+    private static long[] readDeltaColumn(DataInputStream in, int count) throws IOException {
+        long[] column = new long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unzigzag(readVarLong(in));
+            column[i] = previous;
+        }
+        return column;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 64) throw new IOException("Malformed varint in animation file");
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    // Null-aware length-prefixed UTF-8, unlike writeUTF it is not limited to 64 KB (entity NBT can exceed that)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) return null;
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
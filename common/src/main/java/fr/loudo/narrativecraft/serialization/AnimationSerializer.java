@@ -33,6 +33,10 @@ import fr.loudo.narrativecraft.narrative.recording.actions.Action;
 import java.lang.reflect.Type;
 
 public class AnimationSerializer implements JsonSerializer<Animation>, JsonDeserializer<Animation> {
+    private static final Gson GSON = new Gson();
+    private static final Gson ACTION_GSON = new GsonBuilder()
+            .registerTypeAdapter(Action.class, new ActionSerializer())
+            .create();
 
     private final String characterKey = "character_name";
     private final Scene scene;
@@ -43,7 +47,7 @@ public class AnimationSerializer implements JsonSerializer<Animation>, JsonDeser
 
     @Override
     public JsonElement serialize(Animation animation, Type typeOfSrc, JsonSerializationContext context) {
-        JsonObject obj = new Gson().toJsonTree(animation).getAsJsonObject();
+        JsonObject obj = GSON.toJsonTree(animation).getAsJsonObject();
         CharacterStory characterStory = animation.getCharacter();
         if (characterStory == null) return obj;
         obj.addProperty(characterKey, characterStory.getName());
@@ -53,22 +57,28 @@ public class AnimationSerializer implements JsonSerializer<Animation>, JsonDeser
     @Override
     public Animation deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
             throws JsonParseException {
-        Animation animation = new GsonBuilder()
-                .registerTypeAdapter(Action.class, new ActionSerializer())
-                .create()
-                .fromJson(json, Animation.class);
+        Animation animation = ACTION_GSON.fromJson(json, Animation.class);
         animation.setScene(scene);
-        CharacterManager characterManager = NarrativeCraftMod.getInstance().getCharacterManager();
         JsonObject jsonObject = json.getAsJsonObject();
         if (jsonObject.has(characterKey)) {
-            String characterName = jsonObject.get(characterKey).getAsString();
-            CharacterStory characterStory = characterManager.getCharacterByName(characterName);
-            if (characterStory == null) {
-                characterStory = scene.getNpcByName(characterName);
-                if (characterStory == null) return animation;
-            }
+            CharacterStory characterStory =
+                    resolveCharacter(scene, jsonObject.get(characterKey).getAsString());
+            if (characterStory == null) return animation;
             animation.setCharacter(characterStory);
         }
         return animation;
     }
+
+    /**
+     * Find an animation's character by name, main characters first, then the scene NPCs.
+     */
+    public static CharacterStory resolveCharacter(Scene scene, String characterName) {
+        if (characterName == null) return null;
+        CharacterManager characterManager = NarrativeCraftMod.getInstance().getCharacterManager();
+        CharacterStory characterStory = characterManager.getCharacterByName(characterName);
+        if (characterStory == null) {
+            characterStory = scene.getNpcByName(characterName);
+        }
+        return characterStory;
+    }
 }
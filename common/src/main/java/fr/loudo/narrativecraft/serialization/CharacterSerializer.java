@@ -30,11 +30,13 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.entity.EntityType;
 
 public class CharacterSerializer implements JsonDeserializer<CharacterStory> {
+    private static final Gson GSON = new Gson();
+
     @Override
     public CharacterStory deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
             throws JsonParseException {
         JsonObject obj = json.getAsJsonObject();
-        CharacterStory characterStory = new Gson().fromJson(json, CharacterStory.class);
+        CharacterStory characterStory = GSON.fromJson(json, CharacterStory.class);
         if (obj.has("entityTypeId")) {
             int entityTypeId = obj.get("entityTypeId").getAsInt();
             EntityType<?> entityType = BuiltInRegistries.ENTITY_TYPE.byId(entityTypeId);
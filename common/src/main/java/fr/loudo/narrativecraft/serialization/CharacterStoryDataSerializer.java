@@ -34,6 +34,7 @@ import java.lang.reflect.Type;
 
 public class CharacterStoryDataSerializer
         implements JsonSerializer<CharacterStoryData>, JsonDeserializer<CharacterStoryData> {
+    private static final Gson GSON = new Gson();
 
     private final String characterKey = "character_name";
     private final Scene scene;
@@ -45,7 +46,7 @@ public class CharacterStoryDataSerializer
     @Override
     public JsonElement serialize(
             CharacterStoryData characterStoryData, Type type, JsonSerializationContext jsonSerializationContext) {
-        JsonObject obj = new Gson().toJsonTree(characterStoryData).getAsJsonObject();
+        JsonObject obj = GSON.toJsonTree(characterStoryData).getAsJsonObject();
         CharacterStory characterStory = characterStoryData.getCharacterStory();
         if (characterStory == null) return obj;
         obj.addProperty(characterKey, characterStory.getName());
@@ -56,7 +57,7 @@ public class CharacterStoryDataSerializer
     public CharacterStoryData deserialize(
             JsonElement json, Type type, JsonDeserializationContext jsonDeserializationContext)
             throws JsonParseException {
-        CharacterStoryData characterStoryData = new GsonBuilder().create().fromJson(json, CharacterStoryData.class);
+        CharacterStoryData characterStoryData = GSON.fromJson(json, CharacterStoryData.class);
         CharacterManager characterManager = NarrativeCraftMod.getInstance().getCharacterManager();
         JsonObject jsonObject = json.getAsJsonObject();
         if (jsonObject.has(characterKey)) {
@@ -35,6 +35,7 @@ import java.lang.reflect.Type;
  * and prevent duplicates data (Since subscenes and animations have their own separated files.)
  */
 public class CutsceneSerializer implements JsonSerializer<Cutscene>, JsonDeserializer<Cutscene> {
+    private static final Gson GSON = new Gson();
 
     private final String animationsKey = "animations_name";
     private final String subscenesKey = "subscenes_name";
@@ -47,7 +48,7 @@ public class CutsceneSerializer implements JsonSerializer<Cutscene>, JsonDeseria
 
     @Override
     public JsonElement serialize(Cutscene cutscene, Type typeOfSrc, JsonSerializationContext context) {
-        JsonObject obj = new Gson().toJsonTree(cutscene).getAsJsonObject();
+        JsonObject obj = GSON.toJsonTree(cutscene).getAsJsonObject();
 
         JsonArray subscenesArray = new JsonArray();
         for (String name : cutscene.getSubscenesName()) {
@@ -69,7 +70,7 @@ public class CutsceneSerializer implements JsonSerializer<Cutscene>, JsonDeseria
             throws JsonParseException {
         JsonObject obj = json.getAsJsonObject();
 
-        Cutscene cutscene = new Gson().fromJson(json, Cutscene.class);
+        Cutscene cutscene = GSON.fromJson(json, Cutscene.class);
         cutscene.setScene(scene);
 
         if (obj.has(subscenesKey)) {
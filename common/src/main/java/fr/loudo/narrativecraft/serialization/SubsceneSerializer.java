@@ -34,6 +34,8 @@ import java.lang.reflect.Type;
  * (Animations are location to animations folder of the scene)
  */
 public class SubsceneSerializer implements JsonSerializer<Subscene>, JsonDeserializer<Subscene> {
+    private static final Gson GSON = new Gson();
+
     private final String animationsKey = "animations_name";
     private final Scene scene;
 
@@ -43,7 +45,7 @@ public class SubsceneSerializer implements JsonSerializer<Subscene>, JsonDeseria
 
     @Override
     public JsonElement serialize(Subscene subscene, Type typeOfSrc, JsonSerializationContext context) {
-        JsonObject obj = new Gson().toJsonTree(subscene).getAsJsonObject();
+        JsonObject obj = GSON.toJsonTree(subscene).getAsJsonObject();
 
         JsonArray animationsArray = new JsonArray();
         for (String name : subscene.getAnimationsName()) {
@@ -59,7 +61,7 @@ public class SubsceneSerializer implements JsonSerializer<Subscene>, JsonDeseria
             throws JsonParseException {
         JsonObject obj = json.getAsJsonObject();
 
-        Subscene subscene = new Gson().fromJson(json, Subscene.class);
+        Subscene subscene = GSON.fromJson(json, Subscene.class);
         subscene.setScene(scene);
 
         if (obj.has(animationsKey)) {
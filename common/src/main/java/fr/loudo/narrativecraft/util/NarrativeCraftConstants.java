@@ -114,6 +114,21 @@ public final class NarrativeCraftConstants {
     /** Recording position precision (decimal places) */
     public static final int RECORDING_POSITION_PRECISION = 4;
 
+    /** Ticks between nearby entity scans while recording, 1 scans every tick */
+    public static final int RECORDING_SCAN_INTERVAL = 1;
+
+    /** Viewer distance under which looping playbacks run at full fidelity (blocks) */
+    public static final double PLAYBACK_LOD_FULL_DISTANCE = 48.0;
+
+    /** Viewer distance under which looping playbacks still teleport every tick (blocks) */
+    public static final double PLAYBACK_LOD_REDUCED_DISTANCE = 128.0;
+
+    /** Ticks between two closest-viewer checks of a looping playback */
+    public static final int PLAYBACK_LOD_UPDATE_INTERVAL = 10;
+
+    /** Ticks between two teleports of a playback no one is close enough to see */
+    public static final int PLAYBACK_LOD_HIDDEN_MOVE_INTERVAL = 10;
+
     // ========================
     // Area Triggers
     // ========================
@@ -124,6 +139,12 @@ public final class NarrativeCraftConstants {
     /** Minimum area trigger volume (blocks cubed) */
     public static final double MIN_TRIGGER_VOLUME = 1.0;
 
+    /** Distance (blocks) from which a player can look at an interaction entity */
+    public static final double INTERACTION_LOOK_DISTANCE = 5.0;
+
+    /** Nearest interaction entities in the view cone that get a line of sight check each tick */
+    public static final int INTERACTION_LOOK_MAX_CANDIDATES = 3;
+
     // ========================
     // Performance
     // ========================
@@ -143,6 +164,21 @@ public final class NarrativeCraftConstants {
     /** Maximum concurrent playbacks */
     public static final int MAX_CONCURRENT_PLAYBACKS = 20;
 
+    /** Animation cache budget, in stored samples (distinct locations + actions) kept in memory */
+    public static final long MAX_CACHED_ANIMATION_WEIGHT = 2_000_000L;
+
+    /** Delay before a story save hits the disk, later saves within it replace the pending one (ms) */
+    public static final long SAVE_COALESCE_DELAY_MS = 500L;
+
+    /** Number of wrapped dialog texts kept by the text layout cache */
+    public static final int TEXT_LAYOUT_CACHE_SIZE = 256;
+
+    /** Ticks a moving cinematic camera may go without its pose being sent to the player */
+    public static final int CAMERA_SYNC_INTERVAL_TICKS = 4;
+
+    /** Camera move (blocks) since the last sent pose past which the pose is sent right away */
+    public static final double CAMERA_SYNC_DRIFT_DISTANCE = 8.0;
+
     // ========================
     // Validation
     // ========================
@@ -0,0 +1,121 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import net.minecraft.client.gui.Font;
+
+/**
+ * Glyph advances and wrapped lines of dialog text, measured once per font.
+ *
+ * Showing the same dialog again, reloading a save or editing a text only looks the lines up
+ * here instead of running the font splitter again. Everything is dropped when resource packs
+ * reload, since fonts may change then.
+ */
+public final class TextLayoutCache {
+
+    // Keyed by font instance, so a font that is no longer used can be collected
+    private static final Map<Font, GlyphAdvances> GLYPH_ADVANCES = new WeakHashMap<>();
+    private static final Map<LayoutKey, List<String>> LAYOUTS = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, List<String>> eldest) {
+            return size() > NarrativeCraftConstants.TEXT_LAYOUT_CACHE_SIZE;
+        }
+    };
+
+    private TextLayoutCache() {}
+
+    /**
+     * Cached advance of a code point in {@code font}, or {@link Float#NaN} if it was never measured.
+     */
+    public static synchronized float getGlyphAdvance(Font font, int codePoint) {
+        GlyphAdvances advances = GLYPH_ADVANCES.get(font);
+        return advances == null ? Float.NaN : advances.get(codePoint);
+    }
+
+    public static synchronized void putGlyphAdvance(Font font, int codePoint, float advance) {
+        GLYPH_ADVANCES.computeIfAbsent(font, key -> new GlyphAdvances()).put(codePoint, advance);
+    }
+
+    /**
+     * Lines {@code text} was wrapped into for this font and width, or null if it was never laid out.
+     */
+    public static synchronized List<String> getLines(String text, Font font, int width) {
+        return LAYOUTS.get(new LayoutKey(text, font, width));
+    }
+
+    /**
+     * Remember a layout and return the shared, unmodifiable copy that callers should keep.
+     */
+    public static synchronized List<String> putLines(String text, Font font, int width, List<String> lines) {
+        List<String> copy = List.copyOf(lines);
+        LAYOUTS.put(new LayoutKey(text, font, width), copy);
+        return copy;
+    }
+
+    public static synchronized void clear() {
+        GLYPH_ADVANCES.clear();
+        LAYOUTS.clear();
+    }
+
+    /**
+     * Drop everything once a resource reload is done, fonts may have changed.
+     */
+    public static void clearAfter(CompletableFuture<?> reload) {
+        reload.thenRun(TextLayoutCache::clear);
+    }
+
+    // Font identity is part of the key, fonts don't override equals
+    private record LayoutKey(String text, Font font, int width) {}
+
+    private static final class GlyphAdvances {
+        // Latin-1 is looked up in a flat array, anything else falls back to a map
+        private final float[] latin = new float[256];
+        private final Map<Integer, Float> others = new HashMap<>();
+
+        private GlyphAdvances() {
+            Arrays.fill(latin, Float.NaN);
+        }
+
+        private float get(int codePoint) {
+            if (codePoint >= 0 && codePoint < latin.length) return latin[codePoint];
+            Float advance = others.get(codePoint);
+            return advance == null ? Float.NaN : advance;
+        }
+
+        private void put(int codePoint, float advance) {
+            if (codePoint >= 0 && codePoint < latin.length) {
+                latin[codePoint] = advance;
+            } else {
+                others.put(codePoint, advance);
+            }
+        }
+    }
+}
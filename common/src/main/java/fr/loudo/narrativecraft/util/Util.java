@@ -107,6 +107,8 @@ public class Util {
     }
 
     public static List<String> splitText(String text, Font font, int width) {
+        List<String> cachedLines = TextLayoutCache.getLines(text, font, width);
+        if (cachedLines != null) return cachedLines;
         List<String> finalString = new ArrayList<>();
         List<FormattedCharSequence> charSequences = font.split(FormattedText.of(text), width);
         for (FormattedCharSequence chara : charSequences) {
@@ -117,7 +119,7 @@ public class Util {
             });
             finalString.add(stringBuilder.toString());
         }
-        return finalString;
+        return TextLayoutCache.putLines(text, font, width, finalString);
     }
 
     public static String getLongerTextLine(List<String> lines, Minecraft minecraft) {
@@ -144,7 +146,12 @@ public class Util {
      * Get width of a single character using the compat layer.
      */
     public static float getLetterWidth(int letterCode, Minecraft minecraft) {
-        return getUtilCompat().getLetterWidth(letterCode, minecraft);
+        float width = TextLayoutCache.getGlyphAdvance(minecraft.font, letterCode);
+        if (Float.isNaN(width)) {
+            width = getUtilCompat().getLetterWidth(letterCode, minecraft);
+            TextLayoutCache.putGlyphAdvance(minecraft.font, letterCode, width);
+        }
+        return width;
     }
 
     // ========== Version-specific delegate methods ==========
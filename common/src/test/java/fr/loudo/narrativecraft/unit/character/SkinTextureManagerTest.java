@@ -0,0 +1,95 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.character;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.managers.SkinTextureManager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("SkinTextureManager")
+class SkinTextureManagerTest {
+
+    private static final String PATH = "character/alice/main.png";
+
+    @TempDir
+    Path folder;
+
+    private File skinFile(String name, String content) throws IOException {
+        return Files.writeString(folder.resolve(name), content).toFile();
+    }
+
+    @Test
+    void loadsOnlyOnFirstAcquire() throws IOException {
+        SkinTextureManager manager = new SkinTextureManager();
+        File skin = skinFile("main.png", "pixels");
+        assertTrue(manager.acquire(PATH, skin));
+        assertFalse(manager.acquire(PATH, skin));
+        assertFalse(manager.acquire(PATH, skin));
+        assertEquals(3, manager.getReferences(PATH));
+    }
+
+    @Test
+    void releasesTextureWithLastReference() throws IOException {
+        SkinTextureManager manager = new SkinTextureManager();
+        File skin = skinFile("main.png", "pixels");
+        manager.acquire(PATH, skin);
+        manager.acquire(PATH, skin);
+        assertFalse(manager.release(PATH));
+        assertTrue(manager.release(PATH));
+        assertEquals(0, manager.getReferences(PATH));
+        assertTrue(manager.acquire(PATH, skin));
+    }
+
+    @Test
+    void releasingUnknownPathDoesNothing() {
+        SkinTextureManager manager = new SkinTextureManager();
+        assertFalse(manager.release(PATH));
+    }
+
+    @Test
+    void reloadsWhenFileChangedOnDisk() throws IOException {
+        SkinTextureManager manager = new SkinTextureManager();
+        File skin = skinFile("main.png", "pixels");
+        assertTrue(manager.acquire(PATH, skin));
+        Files.writeString(skin.toPath(), "other pixels");
+        assertTrue(skin.setLastModified(skin.lastModified() + 5000));
+        assertTrue(manager.acquire(PATH, skin));
+        assertFalse(manager.acquire(PATH, skin));
+        assertEquals(3, manager.getReferences(PATH));
+    }
+
+    @Test
+    void reloadsWhenPathPointsToAnotherFile() throws IOException {
+        SkinTextureManager manager = new SkinTextureManager();
+        assertTrue(manager.acquire(PATH, skinFile("main.png", "pixels")));
+        assertTrue(manager.acquire(PATH, skinFile("main_copy.png", "pixels")));
+    }
+}
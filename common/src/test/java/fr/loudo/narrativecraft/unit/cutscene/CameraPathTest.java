@@ -0,0 +1,113 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.cutscene;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.controllers.cutscene.CameraPath;
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframe;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframeGroup;
+import fr.loudo.narrativecraft.util.MathHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CameraPath")
+class CameraPathTest {
+
+    private static CutsceneKeyframe keyframe(int id, double x, float yaw, int pathTick) {
+        return new CutsceneKeyframe(id, new KeyframeLocation(x, 64, -x, 10, yaw, 0, 70), 0, 0, pathTick);
+    }
+
+    private static CutsceneKeyframeGroup group(CutsceneKeyframe... keyframes) {
+        CutsceneKeyframeGroup group = new CutsceneKeyframeGroup(1);
+        for (CutsceneKeyframe keyframe : keyframes) {
+            group.addKeyframe(keyframe);
+        }
+        return group;
+    }
+
+    private static KeyframeLocation pose() {
+        return new KeyframeLocation(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void matchesCatmullRomOfTheSegment() {
+        CutsceneKeyframe k0 = keyframe(0, 0, 0, 0);
+        CutsceneKeyframe k1 = keyframe(1, 10, 0, 20);
+        CutsceneKeyframe k2 = keyframe(2, 15, 0, 40);
+        CutsceneKeyframe k3 = keyframe(3, 40, 0, 20);
+        CameraPath path = CameraPath.compile(group(k0, k1, k2, k3));
+
+        assertEquals(80, path.getDuration());
+        // 30 ticks after k0 is a quarter of the way through the k1 -> k2 segment
+        KeyframeLocation sampled = path.sample(k0, 30, pose());
+        float expected = MathHelper.catmullRom(0, 10, 15, 40, 0.25f);
+        assertEquals(expected, sampled.getX(), 1e-4);
+        assertEquals(-expected, sampled.getZ(), 1e-4);
+        assertEquals(64, sampled.getY(), 1e-9);
+        assertEquals(70, sampled.getFov(), 1e-4);
+    }
+
+    @Test
+    void samplesRelativeToStartKeyframe() {
+        CutsceneKeyframe k0 = keyframe(0, 0, 0, 0);
+        CutsceneKeyframe k1 = keyframe(1, 10, 0, 20);
+        CutsceneKeyframe k2 = keyframe(2, 15, 0, 40);
+        CameraPath path = CameraPath.compile(group(k0, k1, k2));
+
+        assertEquals(path.sample(k0, 30, pose()).getX(), path.sample(k1, 10, pose()).getX(), 1e-9);
+        assertEquals(10, path.sample(k1, 0, pose()).getX(), 1e-9);
+    }
+
+    @Test
+    void skipsSegmentsOfZeroTicks() {
+        CutsceneKeyframe k0 = keyframe(0, 0, 0, 0);
+        CutsceneKeyframe k1 = keyframe(1, 10, 0, 0);
+        CutsceneKeyframe k2 = keyframe(2, 20, 0, 10);
+        CameraPath path = CameraPath.compile(group(k0, k1, k2));
+
+        assertEquals(10, path.sample(k0, 0, pose()).getX(), 1e-9);
+    }
+
+    @Test
+    void holdsLastKeyframePastTheEnd() {
+        CutsceneKeyframe k0 = keyframe(0, 0, 0, 0);
+        CutsceneKeyframe k1 = keyframe(1, 10, 0, 20);
+        CameraPath path = CameraPath.compile(group(k0, k1));
+
+        assertEquals(10, path.sample(k0, 25, pose()).getX(), 1e-9);
+        assertEquals(10, path.sample(keyframe(9, 0, 0, 0), 0, pose()).getX(), 1e-9);
+    }
+
+    @Test
+    void yawTakesTheShortWayAround() {
+        CutsceneKeyframe k0 = keyframe(0, 0, 170, 0);
+        CutsceneKeyframe k1 = keyframe(1, 10, -170, 20);
+        CameraPath path = CameraPath.compile(group(k0, k1));
+
+        float yaw = path.sample(k0, 10, pose()).getYaw();
+        assertTrue(Math.abs(yaw) > 170, "yaw went through 0: " + yaw);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.cutscene;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
+import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.controllers.cutscene.CutsceneTimeline;
+import fr.loudo.narrativecraft.controllers.keyframe.KeyframeTriggerScheduler;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframe;
+import fr.loudo.narrativecraft.narrative.keyframes.cutscene.CutsceneKeyframeGroup;
+import fr.loudo.narrativecraft.narrative.keyframes.keyframeTrigger.KeyframeTrigger;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CutsceneTimeline")
+class CutsceneTimelineTest {
+
+    private CutsceneKeyframe k1, k2, k3, k4;
+    private CutsceneKeyframeGroup group1, group2;
+    private CutsceneTimeline timeline;
+
+    private static CutsceneKeyframe keyframe(int id, double x, int tick, int pathTick) {
+        return new CutsceneKeyframe(id, new KeyframeLocation(x, 64, 0, 0, 0, 0, 70), tick, 0, pathTick);
+    }
+
+    private static KeyframeLocation pose() {
+        return new KeyframeLocation(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    private static InkAction action() {
+        return new InkAction(
+                "timeline_trigger", InkAction.Side.CLIENT, "tltrig", command -> command.startsWith("tltrig")) {
+            @Override
+            protected InkActionResult doValidate(List<String> arguments, Scene scene) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            protected InkActionResult doExecute(PlayerSession playerSession) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            public boolean needScene() {
+                return false;
+            }
+        };
+    }
+
+    private static KeyframeTrigger trigger(int id, int tick, String commands) {
+        return new KeyframeTrigger(id, tick, commands, new KeyframeLocation(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    @BeforeAll
+    static void registerAction() {
+        InkActionRegistry.register(CutsceneTimelineTest::action, "tltrig");
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Two groups: 0 -> 20, a 10 tick transition, then 30 -> 45
+        k1 = keyframe(1, 0, 0, 0);
+        k2 = keyframe(2, 20, 20, 20);
+        k2.setTransitionDelayTick(10);
+        k3 = keyframe(3, 100, 30, 0);
+        k4 = keyframe(4, 130, 45, 15);
+        group1 = new CutsceneKeyframeGroup(1);
+        group1.addKeyframe(k1);
+        group1.addKeyframe(k2);
+        group2 = new CutsceneKeyframeGroup(2);
+        group2.addKeyframe(k3);
+        group2.addKeyframe(k4);
+        timeline = CutsceneTimeline.compile(List.of(group1, group2));
+    }
+
+    @Test
+    @DisplayName("Should walk segments across keyframe groups")
+    void walksSegmentsAcrossGroups() {
+        // Given / When
+        CutsceneTimeline.Segment first = timeline.getSegmentAt(5);
+        CutsceneTimeline.Segment last = timeline.getSegmentAt(30);
+
+        // Then
+        assertEquals(0, timeline.getStartTick());
+        assertEquals(45, timeline.getEndTick());
+        assertSame(k1, first.from());
+        assertSame(k2, first.to());
+        assertEquals(30, timeline.getSegmentLength(first));
+        assertSame(k3, last.from());
+        assertSame(k4, last.to());
+        assertSame(group2, last.group());
+        assertTrue(timeline.isLastSegment(last));
+    }
+
+    @Test
+    @DisplayName("Should match keyframe poses at their ticks")
+    void posesMatchKeyframesAtTheirTicks() {
+        // Given / When / Then
+        assertEquals(0, timeline.poseAt(0, pose()).getX(), 1e-9);
+        assertEquals(20, timeline.poseAt(20, pose()).getX(), 1e-9);
+        // The camera waits on the last keyframe of a group during the transition
+        assertEquals(20, timeline.poseAt(29, pose()).getX(), 1e-9);
+        assertEquals(100, timeline.poseAt(30, pose()).getX(), 1e-9);
+        assertEquals(130, timeline.poseAt(45, pose()).getX(), 1e-9);
+        assertEquals(130, timeline.poseAt(500, pose()).getX(), 1e-9);
+        assertEquals(0, timeline.poseAt(-10, pose()).getX(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should sample the whole cutscene at a fixed rate")
+    void samplesWholeCutsceneAtFixedRate() {
+        // When
+        double[] samples = timeline.sample(2);
+
+        // Then
+        assertEquals((45 * 2 + 1) * CutsceneTimeline.SAMPLE_STRIDE, samples.length);
+        assertEquals(0, samples[0], 1e-9);
+        assertEquals(64, samples[1], 1e-9);
+        assertEquals(70, samples[6], 1e-9);
+        assertEquals(130, samples[samples.length - CutsceneTimeline.SAMPLE_STRIDE], 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> timeline.sample(0));
+    }
+
+    @Test
+    @DisplayName("Should list the triggers of any tick without a session")
+    void listsTriggersAtTickHeadless() {
+        // Given
+        KeyframeTriggerScheduler triggerScheduler = KeyframeTriggerScheduler.compile(
+                List.of(
+                        trigger(1, 30, "tltrig b"),
+                        trigger(2, 10, "tltrig a\nunknown command"),
+                        trigger(3, 30, "tltrig c")),
+                null);
+        CutsceneTimeline withTriggers = CutsceneTimeline.compile(List.of(group1, group2), triggerScheduler);
+
+        // When
+        List<String> atTransition = withTriggers.triggersAt(30);
+        // Queried out of order, a read doesn't move the playback cursor
+        List<String> atStart = withTriggers.triggersAt(10);
+
+        // Then
+        assertEquals(List.of("tltrig b", "tltrig c"), atTransition);
+        assertEquals(List.of("tltrig a"), atStart);
+        assertTrue(withTriggers.triggersAt(20).isEmpty());
+        assertEquals(100, withTriggers.poseAt(30, pose()).getX(), 1e-9);
+        assertEquals(0, triggerScheduler.poll(10));
+        assertTrue(timeline.triggersAt(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should have no samples for an empty cutscene")
+    void emptyCutsceneHasNoSamples() {
+        // When
+        CutsceneTimeline empty = CutsceneTimeline.compile(List.of());
+
+        // Then
+        assertNull(empty.firstSegment());
+        assertNull(empty.poseAt(0, pose()));
+        assertEquals(0, empty.sample(1).length);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.dialog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.dialog.DialogAnimationType;
+import fr.loudo.narrativecraft.narrative.story.text.ParsedDialog;
+import fr.loudo.narrativecraft.narrative.story.text.TextEffect;
+import fr.loudo.narrativecraft.narrative.story.text.TextEffectAnimation;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TextEffectAnimation")
+class TextEffectAnimationTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static TextEffectAnimation animationOf(String text, TextEffect... effects) {
+        return new TextEffectAnimation(new ParsedDialog(text, List.of(effects)));
+    }
+
+    @Test
+    @DisplayName("Letters outside of any effect keep a zero offset")
+    void lettersWithoutEffectStayStill() {
+        // Given
+        TextEffectAnimation animation =
+                animationOf("Hello world", new TextEffect(DialogAnimationType.WAVE, 6, 11, Map.of()));
+
+        // When
+        for (int tick = 0; tick < 5; tick++) {
+            animation.tick();
+        }
+
+        // Then
+        for (int i = 0; i < 6; i++) {
+            assertEquals(0f, animation.getOffsetX(i, 0.5f));
+            assertEquals(0f, animation.getOffsetY(i, 0.5f));
+        }
+        assertNotEquals(0f, animation.getOffsetY(8, 1f));
+    }
+
+    @Test
+    @DisplayName("Indices outside of the text have no offset")
+    void outOfRangeIndices() {
+        // Given
+        TextEffectAnimation animation = animationOf("Hi", new TextEffect(DialogAnimationType.WAVE, 0, 2, Map.of()));
+
+        // When
+        animation.tick();
+
+        // Then
+        assertEquals(0f, animation.getOffsetY(-1, 1f));
+        assertEquals(0f, animation.getOffsetY(2, 1f));
+        assertEquals(0f, animation.getOffsetX(100, 1f));
+    }
+
+    @Test
+    @DisplayName("Wave offsets are interpolated between the previous and the current tick")
+    void waveIsInterpolated() {
+        // Given
+        TextEffectAnimation animation = animationOf("Wave", new TextEffect(DialogAnimationType.WAVE, 0, 4, Map.of()));
+        animation.tick();
+        float previous = animation.getOffsetY(2, 1f);
+
+        // When
+        animation.tick();
+
+        // Then
+        float current = animation.getOffsetY(2, 1f);
+        assertNotEquals(previous, current, EPSILON);
+        assertEquals(previous, animation.getOffsetY(2, 0f), EPSILON);
+        assertEquals((previous + current) / 2f, animation.getOffsetY(2, 0.5f), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Shaking letters jump to their new offset without interpolation")
+    void shakeIsNotInterpolated() {
+        // Given
+        TextEffectAnimation animation = animationOf(
+                "Shake", new TextEffect(DialogAnimationType.SHAKE, 0, 5, Map.of("time", "0.05", "force", "2")));
+
+        // When
+        for (int tick = 0; tick < 3; tick++) {
+            animation.tick();
+        }
+
+        // Then
+        for (int i = 0; i < 5; i++) {
+            float offsetX = animation.getOffsetX(i, 1f);
+            assertEquals(offsetX, animation.getOffsetX(i, 0f));
+            assertEquals(animation.getOffsetY(i, 1f), animation.getOffsetY(i, 0f));
+            assertTrue(offsetX >= -2f && offsetX <= 2f);
+        }
+    }
+
+    @Test
+    @DisplayName("Effects ending past the cleaned text still get offsets")
+    void effectPastTextEnd() {
+        // Given
+        TextEffectAnimation animation = animationOf("Hi", new TextEffect(DialogAnimationType.WAVE, 0, 6, Map.of()));
+
+        // When
+        animation.tick();
+
+        // Then
+        assertNotEquals(0f, animation.getOffsetY(5, 1f));
+    }
+}
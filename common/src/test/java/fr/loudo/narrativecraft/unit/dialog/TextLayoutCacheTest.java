@@ -0,0 +1,146 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.dialog;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import fr.loudo.narrativecraft.util.TextLayoutCache;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import net.minecraft.client.gui.Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TextLayoutCache")
+class TextLayoutCacheTest {
+
+    private static final int WIDTH = 200;
+
+    private Font font;
+
+    @BeforeEach
+    void setUp() {
+        TextLayoutCache.clear();
+        font = mock(Font.class);
+    }
+
+    private void putText(int index) {
+        TextLayoutCache.putLines("text " + index, font, WIDTH, List.of("text", String.valueOf(index)));
+    }
+
+    private boolean isCached(int index) {
+        return TextLayoutCache.getLines("text " + index, font, WIDTH) != null;
+    }
+
+    @Test
+    @DisplayName("The least recently used layout is evicted once the cache is full")
+    void evictsLeastRecentlyUsed() {
+        // Given
+        int capacity = NarrativeCraftConstants.TEXT_LAYOUT_CACHE_SIZE;
+        for (int i = 0; i < capacity; i++) {
+            putText(i);
+        }
+
+        // When
+        putText(capacity);
+
+        // Then
+        assertFalse(isCached(0));
+        assertTrue(isCached(1));
+        assertTrue(isCached(capacity));
+    }
+
+    @Test
+    @DisplayName("Looking a layout up keeps it from being evicted")
+    void lookupRefreshesEntry() {
+        // Given
+        int capacity = NarrativeCraftConstants.TEXT_LAYOUT_CACHE_SIZE;
+        for (int i = 0; i < capacity; i++) {
+            putText(i);
+        }
+
+        // When
+        TextLayoutCache.getLines("text 0", font, WIDTH);
+        putText(capacity);
+
+        // Then
+        assertTrue(isCached(0));
+        assertFalse(isCached(1));
+    }
+
+    @Test
+    @DisplayName("Layouts are keyed by width and font")
+    void keyedByWidthAndFont() {
+        // Given
+        TextLayoutCache.putLines("text", font, WIDTH, List.of("text"));
+
+        // When
+        List<String> otherWidth = TextLayoutCache.getLines("text", font, WIDTH / 2);
+        List<String> otherFont = TextLayoutCache.getLines("text", mock(Font.class), WIDTH);
+
+        // Then
+        assertNull(otherWidth);
+        assertNull(otherFont);
+        assertEquals(List.of("text"), TextLayoutCache.getLines("text", font, WIDTH));
+    }
+
+    @Test
+    @DisplayName("Everything is kept while a resource reload is running and dropped once it is done")
+    void clearedAfterResourceReload() {
+        // Given
+        putText(0);
+        TextLayoutCache.putGlyphAdvance(font, 'a', 6f);
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+
+        // When
+        TextLayoutCache.clearAfter(reload);
+
+        // Then
+        assertTrue(isCached(0));
+        assertEquals(6f, TextLayoutCache.getGlyphAdvance(font, 'a'));
+        reload.complete(null);
+        assertFalse(isCached(0));
+        assertTrue(Float.isNaN(TextLayoutCache.getGlyphAdvance(font, 'a')));
+    }
+
+    @Test
+    @DisplayName("Glyph advances are cached outside of the Latin-1 range too")
+    void glyphAdvances() {
+        // Given
+        int latin = 'a';
+        int other = 0x4E2D;
+
+        // When
+        TextLayoutCache.putGlyphAdvance(font, latin, 6f);
+        TextLayoutCache.putGlyphAdvance(font, other, 9f);
+
+        // Then
+        assertEquals(6f, TextLayoutCache.getGlyphAdvance(font, latin));
+        assertEquals(9f, TextLayoutCache.getGlyphAdvance(font, other));
+        assertTrue(Float.isNaN(TextLayoutCache.getGlyphAdvance(font, 'b')));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.inkaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
+import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InkActionRegistry")
+class InkActionRegistryTest {
+
+    private static InkAction action(String id, InkAction.CommandMatcher matcher) {
+        return new InkAction(id, InkAction.Side.CLIENT, id, matcher) {
+            @Override
+            protected InkActionResult doValidate(List<String> arguments, Scene scene) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            protected InkActionResult doExecute(PlayerSession playerSession) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            public boolean needScene() {
+                return false;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Keyword lookup returns a fresh instance and still checks the matcher")
+    void keywordLookup() {
+        InkActionRegistry.register(() -> action("test_keyword", command -> command.startsWith("tkw start")), "tkw");
+
+        InkAction first = InkActionRegistry.findByCommand("tkw start 1");
+        InkAction second = InkActionRegistry.findByCommand("tkw start 1");
+        assertNotNull(first);
+        assertEquals("test_keyword", first.getId());
+        assertNotSame(first, second);
+        assertNull(InkActionRegistry.findByCommand("tkw stop"));
+    }
+
+    @Test
+    @DisplayName("Actions registered without keywords are found through their matcher")
+    void fallbackMatcher() {
+        InkActionRegistry.register(() -> action("test_fallback", command -> command.endsWith("!tfb")));
+
+        InkAction inkAction = InkActionRegistry.findByCommand("anything goes !tfb");
+        assertNotNull(inkAction);
+        assertEquals("test_fallback", inkAction.getId());
+    }
+
+    @Test
+    @DisplayName("Registering the same id again replaces the previous keywords")
+    void reRegisterReplaces() {
+        InkActionRegistry.register(() -> action("test_replace", command -> command.startsWith("trold")), "trold");
+        InkActionRegistry.register(() -> action("test_replace", command -> command.startsWith("trnew")), "trnew");
+
+        assertNull(InkActionRegistry.findByCommand("trold"));
+        assertNotNull(InkActionRegistry.findByCommand("trnew"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.interaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTrigger;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.AreaTriggerIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AreaTriggerIndex")
+class AreaTriggerIndexTest {
+
+    private static AreaTrigger trigger(String name, Vec3 corner1, Vec3 corner2) {
+        AreaTrigger areaTrigger = new AreaTrigger(name, "", null, "stitch", false);
+        areaTrigger.setPosition1(corner1);
+        areaTrigger.setPosition2(corner2);
+        return areaTrigger;
+    }
+
+    private static AreaTrigger linearScan(List<AreaTrigger> areaTriggers, Vec3 position) {
+        AreaTrigger inside = null;
+        for (AreaTrigger areaTrigger : areaTriggers) {
+            if (AreaTrigger.isInside(areaTrigger, position)) inside = areaTrigger;
+        }
+        return inside;
+    }
+
+    @Test
+    @DisplayName("Finds the same trigger as a linear scan, including overlaps and huge triggers")
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        List<AreaTrigger> areaTriggers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Vec3 corner = new Vec3(random.nextInt(200) - 100, random.nextInt(40), random.nextInt(200) - 100);
+            Vec3 size = new Vec3(random.nextInt(12), random.nextInt(6), random.nextInt(12));
+            areaTriggers.add(trigger("t" + i, corner, corner.add(size)));
+        }
+        areaTriggers.add(trigger("huge", new Vec3(-500, 0, -500), new Vec3(500, 64, 500)));
+        AreaTriggerIndex index = new AreaTriggerIndex(areaTriggers);
+
+        for (int i = 0; i < 20000; i++) {
+            Vec3 position = new Vec3(
+                    random.nextInt(220) - 110 + (random.nextBoolean() ? 0 : random.nextDouble()),
+                    random.nextInt(45) + (random.nextBoolean() ? 0 : random.nextDouble()),
+                    random.nextInt(220) - 110 + (random.nextBoolean() ? 0 : random.nextDouble()));
+            assertSame(linearScan(areaTriggers, position), index.find(position.x, position.y, position.z));
+        }
+    }
+
+    @Test
+    @DisplayName("Moving a trigger makes the index stale")
+    void staleAfterMove() {
+        AreaTrigger areaTrigger = trigger("a", new Vec3(0, 0, 0), new Vec3(2, 2, 2));
+        List<AreaTrigger> areaTriggers = List.of(areaTrigger);
+        AreaTriggerIndex index = new AreaTriggerIndex(areaTriggers);
+        assertFalse(index.isStale(areaTriggers));
+
+        areaTrigger.setPosition2(new Vec3(40, 2, 2));
+        assertTrue(index.isStale(areaTriggers));
+        assertSame(areaTrigger, new AreaTriggerIndex(areaTriggers).find(35.5, 1, 1));
+    }
+}
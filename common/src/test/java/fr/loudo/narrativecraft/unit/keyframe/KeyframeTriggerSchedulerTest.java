@@ -0,0 +1,155 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.keyframe;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.api.inkAction.InkActionRegistry;
+import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.controllers.keyframe.KeyframeTriggerScheduler;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.keyframes.keyframeTrigger.KeyframeTrigger;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyframeTriggerScheduler")
+class KeyframeTriggerSchedulerTest {
+
+    private static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+    private static InkAction action() {
+        return new InkAction("test_trigger", InkAction.Side.CLIENT, "ttrig", command -> command.startsWith("ttrig")) {
+            @Override
+            protected InkActionResult doValidate(List<String> arguments, Scene scene) {
+                VALIDATIONS.incrementAndGet();
+                return arguments.contains("bad") ? InkActionResult.error("bad") : InkActionResult.ok();
+            }
+
+            @Override
+            protected InkActionResult doExecute(PlayerSession playerSession) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            public boolean needScene() {
+                return false;
+            }
+        };
+    }
+
+    @BeforeAll
+    static void registerAction() {
+        InkActionRegistry.register(KeyframeTriggerSchedulerTest::action, "ttrig");
+    }
+
+    private static KeyframeTrigger trigger(int id, int tick, String commands) {
+        return new KeyframeTrigger(id, tick, commands, new KeyframeLocation(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    private static int countBuckets(KeyframeTriggerScheduler scheduler, int from, int to) {
+        int buckets = 0;
+        for (int tick = from; tick < to; tick++) {
+            if (scheduler.poll(tick) >= 0) buckets++;
+        }
+        return buckets;
+    }
+
+    @Test
+    @DisplayName("Only ticks with a matching command are due")
+    void dueOnlyOnTriggerTicks() {
+        KeyframeTriggerScheduler scheduler = KeyframeTriggerScheduler.compile(List.of(
+                trigger(1, 40, "ttrig b"),
+                trigger(2, 10, "ttrig a\nunknown command"),
+                trigger(3, 20, "unknown command")),
+                null);
+
+        assertFalse(scheduler.isEmpty());
+        assertEquals(-1, scheduler.poll(9));
+        assertEquals(0, scheduler.poll(10));
+        assertEquals(-1, scheduler.poll(11));
+        assertEquals(2, countBuckets(scheduler, 0, 100));
+    }
+
+    @Test
+    @DisplayName("Triggers sharing a tick fire in one bucket")
+    void sharedTickIsOneBucket() {
+        KeyframeTriggerScheduler scheduler = KeyframeTriggerScheduler.compile(
+                List.of(trigger(1, 5, "ttrig a"), trigger(2, 5, "ttrig b"), trigger(3, 6, "ttrig c")), null);
+
+        assertEquals(0, scheduler.poll(5));
+        assertEquals(1, scheduler.poll(6));
+    }
+
+    @Test
+    @DisplayName("Jumping in time seeks without firing the skipped ticks")
+    void seeksOnJumps() {
+        KeyframeTriggerScheduler scheduler =
+                KeyframeTriggerScheduler.compile(List.of(trigger(1, 10, "ttrig a"), trigger(2, 30, "ttrig b")), null);
+
+        assertEquals(-1, scheduler.poll(20));
+        assertEquals(1, scheduler.poll(30));
+        // Back to the start, the first trigger is due again
+        assertEquals(0, scheduler.poll(10));
+        scheduler.seek(25);
+        assertEquals(1, countBuckets(scheduler, 25, 40));
+    }
+
+    @Test
+    @DisplayName("No triggers compiles to an empty scheduler")
+    void emptyScheduler() {
+        KeyframeTriggerScheduler scheduler =
+                KeyframeTriggerScheduler.compile(List.of(trigger(1, 3, "unknown"), trigger(2, 4, "ttrig bad")), null);
+
+        assertTrue(scheduler.isEmpty());
+        assertEquals(0, countBuckets(scheduler, 0, 10));
+    }
+
+    @Test
+    @DisplayName("Commands are validated once at compile time, not on their first fire")
+    void validatesOnceAtCompile() {
+        PlayerSession playerSession = mock(PlayerSession.class);
+        VALIDATIONS.set(0);
+        KeyframeTriggerScheduler scheduler = KeyframeTriggerScheduler.compile(
+                List.of(trigger(1, 10, "ttrig a\nttrig bad"), trigger(2, 20, "ttrig b")), null);
+
+        assertEquals(3, VALIDATIONS.get());
+        assertEquals(List.of("ttrig a"), scheduler.triggersAt(10));
+        scheduler.fire(scheduler.poll(10), playerSession);
+        scheduler.fire(scheduler.poll(20), playerSession);
+        assertEquals(3, VALIDATIONS.get());
+        verify(playerSession, times(2)).addInkAction(any());
+
+        // Played again from the start, the used actions are replaced by newly validated ones
+        scheduler.fire(scheduler.poll(10), playerSession);
+        assertEquals(4, VALIDATIONS.get());
+        verify(playerSession, times(3)).addInkAction(any());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.playback;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.playback.PlaybackData;
+import fr.loudo.narrativecraft.narrative.recording.actions.Action;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionTimeline;
+import fr.loudo.narrativecraft.narrative.recording.actions.manager.ActionType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ActionTimeline")
+class ActionTimelineTest {
+
+    private static Action action(int tick) {
+        return new Action(tick, ActionType.SWING) {
+            @Override
+            public void execute(PlaybackData playbackData) {}
+
+            @Override
+            public void rewind(PlaybackData playbackData) {}
+        };
+    }
+
+    @Test
+    @DisplayName("Actions are bucketed by tick and keep recording order inside a bucket")
+    void bucketsKeepRecordingOrder() {
+        Action a = action(5);
+        Action b = action(2);
+        Action c = action(5);
+        ActionTimeline timeline = ActionTimeline.compile(List.of(a, b, c));
+
+        assertEquals(2, timeline.bucketCount());
+        assertEquals(2, timeline.tickOf(0));
+        assertEquals(5, timeline.tickOf(1));
+        assertSame(a, timeline.get(timeline.bucketStart(1)));
+        assertSame(c, timeline.get(timeline.bucketEnd(1) - 1));
+    }
+
+    @Test
+    @DisplayName("Cursor advances tick by tick and seeks on jumps")
+    void cursorAdvancesAndSeeks() {
+        ActionTimeline timeline = ActionTimeline.compile(List.of(action(0), action(3), action(10)));
+
+        int cursor = 0;
+        List<Integer> hits = new ArrayList<>();
+        for (int tick = 0; tick <= 12; tick++) {
+            cursor = timeline.advance(cursor, tick);
+            if (timeline.isAt(cursor, tick)) hits.add(tick);
+        }
+        assertEquals(List.of(0, 3, 10), hits);
+
+        cursor = timeline.advance(cursor, 3);
+        assertTrue(timeline.isAt(cursor, 3));
+        cursor = timeline.advance(cursor, 9);
+        assertEquals(2, cursor);
+        assertFalse(timeline.isAt(cursor, 9));
+    }
+
+    @Test
+    @DisplayName("Empty or null action lists compile to an empty timeline")
+    void emptyTimeline() {
+        assertSame(ActionTimeline.EMPTY, ActionTimeline.compile(null));
+        assertSame(ActionTimeline.EMPTY, ActionTimeline.compile(List.of()));
+        assertEquals(0, ActionTimeline.EMPTY.seek(42));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.playback;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import fr.loudo.narrativecraft.NarrativeCraftMod;
+import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.managers.AnimationCacheManager;
+import fr.loudo.narrativecraft.narrative.chapter.Chapter;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
+import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import fr.loudo.narrativecraft.serialization.AnimationBinaryCodec;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.server.level.ServerPlayer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("AnimationCacheManager")
+class AnimationCacheManagerTest {
+
+    @TempDir
+    Path folder;
+
+    private AnimationCacheManager manager;
+    private Scene firstScene;
+    private Scene secondScene;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager = new AnimationCacheManager();
+        Chapter chapter = new Chapter("Start", "", 1);
+        firstScene = new Scene("First", "", chapter);
+        chapter.addScene(firstScene);
+        secondScene = new Scene("Second", "", chapter);
+        chapter.addScene(secondScene);
+    }
+
+    // Header-only animation backed by a binary file in the temp folder
+    private Animation animation(Scene scene, String name) throws IOException {
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            locations.add(new Location(i, 64, 0, 0, 0, true));
+        }
+        Animation animation = new Animation(name, scene);
+        animation.setActionsData(List.of(new ActionsData(1, 1, 0, "{}", locations, new ArrayList<>())));
+        File file = folder.resolve(name + NarrativeCraftFile.EXTENSION_ANIMATION_FILE).toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            AnimationBinaryCodec.write(animation, outputStream, true);
+        }
+        animation.unloadTo(file);
+        if (scene != null) scene.addAnimation(animation);
+        return animation;
+    }
+
+    // Runs after every task already queued on the prefetch thread, and checks a missing file gives null
+    private void awaitPrefetchThread() {
+        Animation missing = new Animation("missing", null);
+        missing.unloadTo(folder.resolve("missing" + NarrativeCraftFile.EXTENSION_ANIMATION_FILE).toFile());
+        assertNull(manager.getActionsDataAsync(missing).orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    private PlayerSession sessionIn(Scene scene) {
+        ServerPlayer player = mock(ServerPlayer.class);
+        when(player.getUUID()).thenReturn(UUID.randomUUID());
+        PlayerSession playerSession = mock(PlayerSession.class);
+        when(playerSession.getPlayer()).thenReturn(player);
+        when(playerSession.getScene()).thenReturn(scene);
+        NarrativeCraftMod.getInstance().getPlayerSessionManager().addSession(playerSession);
+        return playerSession;
+    }
+
+    @Test
+    @DisplayName("Should evict animations of scenes no player is in")
+    void evictsInactiveScenes() throws IOException {
+        // Given
+        Animation first = animation(firstScene, "first");
+        Animation second = animation(firstScene, "second");
+
+        // When
+        manager.getActionsData(first);
+        manager.getActionsData(second);
+
+        // Then
+        assertFalse(manager.isCached(first));
+        assertTrue(manager.isCached(second));
+        assertEquals(10, manager.getActionsData(second).getFirst().getLocations().size());
+    }
+
+    @Test
+    @DisplayName("Should keep animations of the scene a player is in")
+    void keepsActiveScene() throws IOException {
+        // Given
+        Animation first = animation(firstScene, "first");
+        Animation second = animation(firstScene, "second");
+        PlayerSession playerSession = sessionIn(firstScene);
+
+        try {
+            // When
+            manager.getActionsData(first);
+            manager.getActionsData(second);
+
+            // Then
+            assertTrue(manager.isCached(first));
+            assertTrue(manager.isCached(second));
+        } finally {
+            NarrativeCraftMod.getInstance().getPlayerSessionManager().removeSession(playerSession);
+        }
+    }
+
+    @Test
+    @DisplayName("Should never evict acquired animations until the last release")
+    void pinsAcquiredAnimations() throws IOException {
+        // Given
+        Animation pinned = animation(firstScene, "pinned");
+        List<ActionsData> acquired = manager.acquire(pinned);
+        manager.acquire(pinned);
+
+        // When
+        manager.getActionsData(animation(firstScene, "second"));
+        manager.release(pinned);
+        manager.getActionsData(animation(firstScene, "third"));
+
+        // Then
+        assertTrue(manager.isAcquired(pinned));
+        assertTrue(manager.isCached(pinned));
+        assertSame(acquired, manager.getActionsData(pinned));
+
+        // When
+        manager.release(pinned);
+        manager.getActionsData(animation(firstScene, "fourth"));
+
+        // Then
+        assertFalse(manager.isAcquired(pinned));
+        assertFalse(manager.isCached(pinned));
+    }
+
+    @Test
+    @DisplayName("Should prefetch the animations of the next scene")
+    void prefetchesNextScene() throws IOException {
+        // Given
+        Animation current = animation(firstScene, "current");
+        Animation next = animation(secondScene, "next");
+
+        // When
+        manager.getActionsData(current);
+        awaitPrefetchThread();
+
+        // Then
+        assertTrue(manager.isCached(next));
+    }
+
+    @Test
+    @DisplayName("Should drop a prefetch that was running when the cache was cleared")
+    void clearDropsRunningPrefetch() throws Exception {
+        // Given
+        Animation current = animation(firstScene, "current");
+        Animation next = animation(secondScene, "next");
+        File blockerFile = animation(null, "blocker").getDataFile();
+        CountDownLatch gate = new CountDownLatch(1);
+        Animation blocker = mock(Animation.class);
+        when(blocker.getDataFile()).thenAnswer(invocation -> {
+            // Holds the prefetch thread so the next scene prefetch stays queued behind it
+            assertTrue(gate.await(5, TimeUnit.SECONDS));
+            return blockerFile;
+        });
+        CompletableFuture<List<ActionsData>> blocked = manager.getActionsDataAsync(blocker);
+        manager.getActionsData(current);
+
+        // When
+        manager.clear();
+        gate.countDown();
+        blocked.orTimeout(5, TimeUnit.SECONDS).join();
+        awaitPrefetchThread();
+
+        // Then
+        assertFalse(manager.isCached(next));
+        assertFalse(manager.isCached(current));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.playback;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.LocationTrack;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocationTrack")
+class LocationTrackTest {
+
+    private static List<Location> sampleLocations() {
+        Random random = new Random(42);
+        List<Location> locations = new ArrayList<>();
+        Location current = new Location(10.5, 64.0, -3.25, 0f, 90f, true);
+        for (int i = 0; i < 2000; i++) {
+            // Long idle spans broken by short bursts of movement
+            if (random.nextInt(10) == 0) {
+                current = new Location(
+                        current.x() + random.nextDouble(),
+                        current.y(),
+                        current.z() - random.nextDouble(),
+                        current.pitch(),
+                        current.yaw() + random.nextFloat(),
+                        random.nextBoolean());
+            }
+            locations.add(current);
+        }
+        return locations;
+    }
+
+    @Test
+    @DisplayName("Random access returns exactly what was appended")
+    void randomAccess() {
+        List<Location> expected = sampleLocations();
+        LocationTrack track = LocationTrack.copyOf(expected);
+
+        assertEquals(expected.size(), track.size());
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int tick = random.nextInt(expected.size());
+            assertEquals(expected.get(tick), track.get(tick));
+        }
+        assertEquals(expected, track);
+    }
+
+    @Test
+    @DisplayName("Stationary ticks are collapsed into one run")
+    void collapsesStationarySpans() {
+        LocationTrack track = new LocationTrack();
+        for (int i = 0; i < 500; i++) {
+            track.append(1.0, 2.0, 3.0, 10f, 20f, true);
+        }
+        track.append(1.0, 2.0, 3.0, 10f, 20f, false);
+        track.append(1.5, 2.0, 3.0, 10f, 20f, false);
+
+        assertEquals(502, track.size());
+        assertEquals(3, track.getRunCount());
+        assertSame(track.get(0), track.get(499));
+        assertFalse(track.get(500).onGround());
+        assertEquals(1.5, track.getLast().x());
+    }
+
+    @Test
+    @DisplayName("Out of range ticks are rejected")
+    void outOfRange() {
+        LocationTrack track = new LocationTrack();
+        assertThrows(IndexOutOfBoundsException.class, () -> track.get(0));
+        track.append(0, 0, 0, 0f, 0f, false);
+        assertThrows(IndexOutOfBoundsException.class, () -> track.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> track.get(-1));
+    }
+}
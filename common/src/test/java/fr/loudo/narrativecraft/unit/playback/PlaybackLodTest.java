@@ -0,0 +1,77 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.playback;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.playback.PlaybackLod;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PlaybackLod")
+class PlaybackLodTest {
+
+    private static double squared(double distance) {
+        return distance * distance;
+    }
+
+    @Test
+    void picksLevelFromClosestViewerDistance() {
+        double full = NarrativeCraftConstants.PLAYBACK_LOD_FULL_DISTANCE;
+        double reduced = NarrativeCraftConstants.PLAYBACK_LOD_REDUCED_DISTANCE;
+        assertEquals(PlaybackLod.FULL, PlaybackLod.fromDistanceSqr(0));
+        assertEquals(PlaybackLod.FULL, PlaybackLod.fromDistanceSqr(squared(full)));
+        assertEquals(PlaybackLod.REDUCED, PlaybackLod.fromDistanceSqr(squared(full + 1)));
+        assertEquals(PlaybackLod.REDUCED, PlaybackLod.fromDistanceSqr(squared(reduced)));
+        assertEquals(PlaybackLod.HIDDEN, PlaybackLod.fromDistanceSqr(squared(reduced + 1)));
+    }
+
+    @Test
+    void noViewerMeansHidden() {
+        assertEquals(PlaybackLod.HIDDEN, PlaybackLod.fromDistanceSqr(Double.MAX_VALUE));
+    }
+
+    @Test
+    void visibleLevelsMoveEveryTick() {
+        for (int tick = 0; tick < 100; tick++) {
+            assertTrue(PlaybackLod.FULL.shouldMove(tick, 100));
+            assertTrue(PlaybackLod.REDUCED.shouldMove(tick, 100));
+        }
+    }
+
+    @Test
+    void hiddenMovesAtIntervalAndOnLastTick() {
+        int interval = NarrativeCraftConstants.PLAYBACK_LOD_HIDDEN_MOVE_INTERVAL;
+        int trackSize = interval * 3 + 2;
+        int moves = 0;
+        for (int tick = 0; tick < trackSize; tick++) {
+            if (PlaybackLod.HIDDEN.shouldMove(tick, trackSize)) moves++;
+        }
+        assertTrue(PlaybackLod.HIDDEN.shouldMove(0, trackSize));
+        assertFalse(PlaybackLod.HIDDEN.shouldMove(1, trackSize));
+        assertTrue(PlaybackLod.HIDDEN.shouldMove(trackSize - 1, trackSize));
+        assertEquals(5, moves);
+    }
+}
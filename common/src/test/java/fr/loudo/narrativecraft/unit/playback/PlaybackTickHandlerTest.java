@@ -0,0 +1,108 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.playback;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import fr.loudo.narrativecraft.managers.PlaybackManager;
+import fr.loudo.narrativecraft.narrative.playback.Playback;
+import fr.loudo.narrativecraft.narrative.playback.PlaybackTickHandler;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+@DisplayName("PlaybackTickHandler")
+class PlaybackTickHandlerTest {
+
+    private static PlayerSession sessionWith(Playback... playbacks) {
+        PlaybackManager playbackManager = new PlaybackManager();
+        playbackManager.getPlaybacks().addAll(List.of(playbacks));
+        PlayerSession playerSession = mock(PlayerSession.class);
+        when(playerSession.getPlaybackManager()).thenReturn(playbackManager);
+        return playerSession;
+    }
+
+    @Test
+    @DisplayName("Every playback is prepared before any playback is applied")
+    void prepareBeforeApply() {
+        // Given
+        Playback first = mock(Playback.class);
+        Playback second = mock(Playback.class);
+        Playback third = mock(Playback.class);
+        List<PlayerSession> sessions = List.of(sessionWith(first, second), sessionWith(third));
+
+        // When
+        PlaybackTickHandler.tick(sessions);
+
+        // Then
+        InOrder inOrder = inOrder(first, second, third);
+        inOrder.verify(first).prepareTick();
+        inOrder.verify(second).prepareTick();
+        inOrder.verify(third).prepareTick();
+        inOrder.verify(first).applyTick();
+        inOrder.verify(second).applyTick();
+        inOrder.verify(third).applyTick();
+    }
+
+    @Test
+    @DisplayName("A playback stopped by another one while applying is still applied this tick")
+    void stoppingWhileApplying() {
+        // Given
+        Playback first = mock(Playback.class);
+        Playback second = mock(Playback.class);
+        PlayerSession playerSession = sessionWith(first, second);
+        PlaybackManager playbackManager = playerSession.getPlaybackManager();
+        doAnswer(invocation -> {
+                    playbackManager.removePlayback(second);
+                    return null;
+                })
+                .when(first)
+                .applyTick();
+
+        // When
+        PlaybackTickHandler.tick(List.of(playerSession));
+
+        // Then
+        verify(second).applyTick();
+        assertEquals(List.of(first), playbackManager.getPlaybacks());
+    }
+
+    @Test
+    @DisplayName("Playbacks of a previous tick are not ticked again")
+    void nothingKeptBetweenTicks() {
+        // Given
+        Playback playback = mock(Playback.class);
+        PlaybackTickHandler.tick(List.of(sessionWith(playback)));
+
+        // When
+        PlaybackTickHandler.tick(List.of());
+
+        // Then
+        verify(playback, times(1)).prepareTick();
+        verify(playback, times(1)).applyTick();
+    }
+}
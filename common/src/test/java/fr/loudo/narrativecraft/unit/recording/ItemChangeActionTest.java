@@ -0,0 +1,137 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.recording;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import fr.loudo.narrativecraft.narrative.playback.PlaybackData;
+import fr.loudo.narrativecraft.narrative.recording.actions.ItemChangeAction;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("ItemChangeAction")
+class ItemChangeActionTest {
+
+    private static RegistryAccess registryAccess;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+    }
+
+    private static LivingEntity mockEntity() {
+        LivingEntity entity = mock(LivingEntity.class, RETURNS_DEEP_STUBS);
+        when(entity.registryAccess()).thenReturn(registryAccess);
+        return entity;
+    }
+
+    private static PlaybackData playbackDataOf(LivingEntity entity) {
+        PlaybackData playbackData = mock(PlaybackData.class);
+        when(playbackData.getEntity()).thenReturn(entity);
+        return playbackData;
+    }
+
+    private static List<ItemStack> givenStacks(LivingEntity entity, int count) {
+        ArgumentCaptor<ItemStack> captor = ArgumentCaptor.forClass(ItemStack.class);
+        verify(entity, times(count)).setItemSlot(eq(EquipmentSlot.MAINHAND), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("Each execution hands the entity its own copy of the decoded stack")
+    void copyPerExecution() {
+        // Given
+        ItemChangeAction action = new ItemChangeAction(
+                0, EquipmentSlot.MAINHAND.name(), new ItemStack(Items.DIAMOND_SWORD), ItemStack.EMPTY, registryAccess);
+        LivingEntity entity = mockEntity();
+        PlaybackData playbackData = playbackDataOf(entity);
+
+        // When
+        action.execute(playbackData);
+        action.execute(playbackData);
+
+        // Then
+        List<ItemStack> stacks = givenStacks(entity, 2);
+        assertNotSame(stacks.get(0), stacks.get(1));
+        assertSame(Items.DIAMOND_SWORD, stacks.get(0).getItem());
+        assertTrue(ItemStack.matches(stacks.get(0), stacks.get(1)));
+    }
+
+    @Test
+    @DisplayName("Changes made to a given stack don't leak into the next execution")
+    void modifiedStackDoesNotLeak() {
+        // Given
+        ItemChangeAction action = new ItemChangeAction(
+                0, EquipmentSlot.MAINHAND.name(), new ItemStack(Items.DIAMOND_SWORD), ItemStack.EMPTY, registryAccess);
+        LivingEntity entity = mockEntity();
+        PlaybackData playbackData = playbackDataOf(entity);
+        action.execute(playbackData);
+        givenStacks(entity, 1).get(0).shrink(1);
+
+        // When
+        action.execute(playbackData);
+
+        // Then
+        ItemStack stack = givenStacks(entity, 2).get(1);
+        assertSame(Items.DIAMOND_SWORD, stack.getItem());
+        assertEquals(1, stack.getCount());
+    }
+
+    @Test
+    @DisplayName("Rewinding hands back the previous item")
+    void rewindGivesOldItem() {
+        // Given
+        ItemChangeAction action = new ItemChangeAction(
+                0,
+                EquipmentSlot.MAINHAND.name(),
+                new ItemStack(Items.DIAMOND_SWORD),
+                new ItemStack(Items.STICK),
+                registryAccess);
+        LivingEntity entity = mockEntity();
+        PlaybackData playbackData = playbackDataOf(entity);
+
+        // When
+        action.execute(playbackData);
+        action.rewind(playbackData);
+
+        // Then
+        List<ItemStack> stacks = givenStacks(entity, 2);
+        assertSame(Items.DIAMOND_SWORD, stacks.get(0).getItem());
+        assertSame(Items.STICK, stacks.get(1).getItem());
+    }
+}
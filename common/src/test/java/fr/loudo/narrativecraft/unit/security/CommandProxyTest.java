@@ -0,0 +1,83 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.security.CommandProxy;
+import fr.loudo.narrativecraft.narrative.validation.ValidationError;
+import fr.loudo.narrativecraft.narrative.validation.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CommandProxy")
+class CommandProxyTest {
+
+    @Test
+    @DisplayName("Should keep the caller context on cached verdicts")
+    void cachedVerdictsKeepTheCallerContext() {
+        // Given
+        CommandProxy commandProxy = new CommandProxy();
+        commandProxy.validateCommand(" setblock ~ ~ ~ stone", "first", "scene", 1);
+
+        // When
+        ValidationResult result = commandProxy.validateCommand(" setblock ~ ~ ~ stone", "second", "other", 7);
+
+        // Then
+        assertFalse(result.isValid());
+        ValidationError error = result.getErrors().get(0);
+        assertEquals("second", error.getStoryName());
+        assertEquals(7, error.getLineNumber());
+        assertEquals("setblock ~ ~ ~ stone", error.getOriginalCommand());
+        assertEquals("Command 'setblock' is blocked for security reasons", error.getReason());
+    }
+
+    @Test
+    @DisplayName("Should replace cached verdicts when custom lists change")
+    void customListsReplaceCachedVerdicts() {
+        // Given
+        CommandProxy commandProxy = new CommandProxy();
+        assertFalse(commandProxy.isSafeCommand("bossbar add story \"Chapter\""));
+
+        // When / Then
+        commandProxy.addToWhitelist("bossbar");
+        assertTrue(commandProxy.isSafeCommand("bossbar add story \"Chapter\""));
+        commandProxy.resetCustomLists();
+        assertFalse(commandProxy.isSafeCommand("bossbar add story \"Chapter\""));
+        commandProxy.addToBlacklist("say");
+        assertFalse(commandProxy.isSafeCommand("say hello"));
+    }
+
+    @Test
+    @DisplayName("Should refuse empty commands")
+    void emptyCommandsAreRefused() {
+        // Given
+        CommandProxy commandProxy = new CommandProxy();
+
+        // When / Then
+        assertFalse(commandProxy.isSafeCommand("   "));
+        assertFalse(commandProxy.isSafeCommand(null));
+        assertTrue(commandProxy.isSafeCommand("/say hello"));
+    }
+}
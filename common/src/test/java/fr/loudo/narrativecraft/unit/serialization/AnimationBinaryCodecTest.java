@@ -0,0 +1,100 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
+import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import fr.loudo.narrativecraft.serialization.AnimationBinaryCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("AnimationBinaryCodec")
+class AnimationBinaryCodecTest {
+
+    private static Animation sampleAnimation() {
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // Half of the track stands still, the rest walks forward
+            double offset = i < 100 ? 0 : (i - 100) * 0.215;
+            locations.add(new Location(-1250.5 + offset, 64.0, 312.25, -12.5f, 540.75f + i, i % 3 != 0));
+        }
+        ActionsData actionsData = new ActionsData(7, 1, 0, "{CustomName:\"npc\"}", locations, new ArrayList<>());
+        Animation animation = new Animation("walk_in", null);
+        animation.setSkinName("walker.png");
+        animation.setActionsData(List.of(actionsData));
+        return animation;
+    }
+
+    @ParameterizedTest(name = "compressed = {0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Round trip keeps metadata and locations within quantization error")
+    void roundTrip(boolean compress) throws IOException {
+        Animation animation = sampleAnimation();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AnimationBinaryCodec.write(animation, output, compress);
+
+        Animation decoded = AnimationBinaryCodec.read(new ByteArrayInputStream(output.toByteArray()), null);
+
+        assertEquals("walk_in", decoded.getName());
+        assertEquals("walker.png", decoded.getSkinName());
+        assertNull(decoded.getCharacter());
+        ActionsData expected = animation.getActionsData().getFirst();
+        ActionsData actual = decoded.getActionsData().getFirst();
+        assertEquals(expected.getEntityId(), actual.getEntityId());
+        assertEquals(expected.getEntityIdRecording(), actual.getEntityIdRecording());
+        assertEquals(expected.getNbtData(), actual.getNbtData());
+        assertEquals(expected.getLocations().size(), actual.getLocations().size());
+        for (int i = 0; i < expected.getLocations().size(); i++) {
+            Location a = expected.getLocations().get(i);
+            Location b = actual.getLocations().get(i);
+            assertEquals(a.x(), b.x(), 1.0 / 4096);
+            assertEquals(a.y(), b.y(), 1.0 / 4096);
+            assertEquals(a.z(), b.z(), 1.0 / 4096);
+            assertEquals(a.pitch(), b.pitch(), 1.0f / 256);
+            assertEquals(a.yaw(), b.yaw(), 1.0f / 256);
+            assertEquals(a.onGround(), b.onGround());
+        }
+    }
+
+    @ParameterizedTest(name = "compressed = {0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Files from a newer format version are rejected")
+    void rejectsNewerVersion(boolean compress) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AnimationBinaryCodec.write(sampleAnimation(), output, compress);
+        byte[] bytes = output.toByteArray();
+        bytes[4] = (byte) (AnimationBinaryCodec.VERSION + 1);
+
+        assertThrows(IOException.class, () -> AnimationBinaryCodec.read(new ByteArrayInputStream(bytes), null));
+    }
+}
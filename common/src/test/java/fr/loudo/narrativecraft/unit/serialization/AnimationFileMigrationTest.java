@@ -0,0 +1,123 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.narrative.chapter.Chapter;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.Animation;
+import fr.loudo.narrativecraft.narrative.recording.Location;
+import fr.loudo.narrativecraft.narrative.recording.actions.ActionsData;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Animation file migration")
+class AnimationFileMigrationTest {
+
+    private static final String LEGACY_CONTENT = "{\"name\":\"walk_in\",\"skinName\":\"walker.png\"}";
+
+    @TempDir
+    Path folder;
+
+    private File previousChaptersDirectory;
+    private Scene scene;
+
+    @BeforeEach
+    void setUp() {
+        previousChaptersDirectory = NarrativeCraftFile.chaptersDirectory;
+        NarrativeCraftFile.chaptersDirectory = folder.toFile();
+        Chapter chapter = new Chapter("Start", "", 1);
+        NarrativeCraftFile.getScenesFolder(chapter);
+        scene = new Scene("Intro", "", chapter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        NarrativeCraftFile.chaptersDirectory = previousChaptersDirectory;
+    }
+
+    private Animation animation() {
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // Off the binary format's quantization grid on purpose
+            locations.add(
+                    new Location(10.123456789 + i * 0.3, 64.000001, -3.3333333, 1.2345f, 90.0001f * i, i % 2 == 0));
+        }
+        Animation animation = new Animation("walk_in", scene);
+        animation.setSkinName("walker.png");
+        animation.setActionsData(
+                List.of(new ActionsData(7, 1, 0, "{CustomName:\"npc\"}", locations, new ArrayList<>())));
+        return animation;
+    }
+
+    @Test
+    @DisplayName("Should keep the original JSON bytes as a backup when migrating")
+    void keepsLegacyFileAsBackup() throws IOException {
+        // Given
+        File animationsFolder = NarrativeCraftFile.getAnimationsFolder(scene);
+        File legacyFile = new File(animationsFolder, "walk_in" + NarrativeCraftFile.EXTENSION_DATA_FILE);
+        Files.writeString(legacyFile.toPath(), LEGACY_CONTENT);
+        byte[] original = Files.readAllBytes(legacyFile.toPath());
+
+        // When
+        NarrativeCraftFile.migrateAnimationFile(legacyFile, animation());
+
+        // Then
+        File backupFile = new File(animationsFolder, legacyFile.getName() + ".bak");
+        assertFalse(legacyFile.exists());
+        assertTrue(backupFile.exists());
+        assertArrayEquals(original, Files.readAllBytes(backupFile.toPath()));
+        assertTrue(new File(animationsFolder, "walk_in" + NarrativeCraftFile.EXTENSION_ANIMATION_FILE).exists());
+    }
+
+    @Test
+    @DisplayName("Should export JSON that imports back without losing precision")
+    void exportsLosslessJson() throws IOException {
+        // Given
+        Animation animation = animation();
+        File exportFile = folder.resolve("walk_in" + NarrativeCraftFile.EXTENSION_DATA_FILE).toFile();
+
+        // When
+        NarrativeCraftFile.exportAnimationJson(animation, exportFile);
+        Animation imported = NarrativeCraftFile.readAnimationFile(exportFile, scene);
+
+        // Then
+        assertEquals("walk_in", imported.getName());
+        assertEquals("walker.png", imported.getSkinName());
+        List<Location> expected = animation.getActionsData().getFirst().getLocations();
+        List<Location> actual = imported.getActionsData().getFirst().getLocations();
+        assertEquals(expected, actual);
+    }
+}
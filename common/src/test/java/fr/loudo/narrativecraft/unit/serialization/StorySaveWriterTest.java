@@ -0,0 +1,142 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.files.NarrativeCraftFile;
+import fr.loudo.narrativecraft.files.StorySaveWriter;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("StorySaveWriter")
+class StorySaveWriterTest {
+
+    @TempDir
+    Path folder;
+
+    private File previousSavesDirectory;
+    private Path save;
+
+    @BeforeEach
+    void setUp() {
+        previousSavesDirectory = NarrativeCraftFile.savesDirectory;
+        NarrativeCraftFile.savesDirectory = folder.toFile();
+        save = folder.resolve(NarrativeCraftFile.SAVE_FILE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StorySaveWriter.discard();
+        NarrativeCraftFile.savesDirectory = previousSavesDirectory;
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static void awaitFile(Path path) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + NarrativeCraftConstants.SAVE_COALESCE_DELAY_MS * 10;
+        while (!Files.exists(path) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write only the last of the saves submitted within the delay")
+    void coalescesSubmitsWithinDelay() throws Exception {
+        // Given
+        Path older = folder.resolve("older.json");
+
+        // When
+        StorySaveWriter.submit(older.toFile(), "one");
+        StorySaveWriter.submit(older.toFile(), "two");
+        StorySaveWriter.submit(save.toFile(), "three");
+        boolean writtenBeforeDelay = Files.exists(save);
+        awaitFile(save);
+
+        // Then
+        assertFalse(writtenBeforeDelay);
+        assertEquals("three", Files.readString(save));
+        // The earlier saves were replaced while pending, never written
+        assertFalse(Files.exists(older));
+    }
+
+    @Test
+    @DisplayName("Should write the pending save on flush without waiting for the delay")
+    void flushWritesPendingSave() throws Exception {
+        // Given
+        StorySaveWriter.submit(save.toFile(), "flushed");
+
+        // When
+        StorySaveWriter.flush();
+
+        // Then
+        assertEquals("flushed", Files.readString(save));
+    }
+
+    @Test
+    @DisplayName("Should drop the pending save before removeSave deletes the file")
+    void discardDropsPendingSaveOnRemove() throws Exception {
+        // Given
+        Files.writeString(save, "previous");
+        StorySaveWriter.submit(save.toFile(), "pending");
+
+        // When
+        NarrativeCraftFile.removeSave();
+        // A save still pending would be written here
+        StorySaveWriter.flush();
+
+        // Then
+        assertFalse(Files.exists(save));
+        assertFalse(NarrativeCraftFile.saveExists());
+    }
+
+    @Test
+    @DisplayName("Should replace the save through a temp file and leave no .tmp behind")
+    void replacesSaveWithoutLeftoverTempFile() throws Exception {
+        // Given
+        Files.writeString(save, "previous");
+
+        // When
+        StorySaveWriter.submit(save.toFile(), "next");
+        StorySaveWriter.flush();
+
+        // Then
+        assertEquals("next", Files.readString(save));
+        assertEquals(List.of(NarrativeCraftFile.SAVE_FILE_NAME), fileNames());
+    }
+}
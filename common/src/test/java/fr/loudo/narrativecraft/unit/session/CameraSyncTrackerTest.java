@@ -0,0 +1,107 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.narrative.keyframes.KeyframeLocation;
+import fr.loudo.narrativecraft.narrative.session.CameraSyncTracker;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CameraSyncTracker")
+class CameraSyncTrackerTest {
+
+    private static KeyframeLocation camera(double x, float yaw) {
+        return new KeyframeLocation(x, 64, 0, 0, yaw, 0, 70);
+    }
+
+    private static CameraSyncTracker syncedAt(KeyframeLocation camera) {
+        CameraSyncTracker tracker = new CameraSyncTracker();
+        assertTrue(tracker.shouldSync(camera));
+        tracker.markSynced(camera);
+        return tracker;
+    }
+
+    @Test
+    @DisplayName("Should hold small moves until the interval ends")
+    void holdsSmallMovesUntilTheIntervalEnds() {
+        // Given
+        CameraSyncTracker tracker = syncedAt(camera(0, 0));
+        int interval = NarrativeCraftConstants.CAMERA_SYNC_INTERVAL_TICKS;
+
+        // When / Then
+        for (int tick = 1; tick < interval; tick++) {
+            assertFalse(tracker.shouldSync(camera(tick * 0.1, tick)));
+        }
+        assertTrue(tracker.shouldSync(camera(interval * 0.1, interval)));
+    }
+
+    @Test
+    @DisplayName("Should send large jumps right away")
+    void sendsLargeJumpsRightAway() {
+        // Given
+        CameraSyncTracker tracker = syncedAt(camera(0, 0));
+
+        // When
+        boolean sync = tracker.shouldSync(camera(NarrativeCraftConstants.CAMERA_SYNC_DRIFT_DISTANCE, 0));
+
+        // Then
+        assertTrue(sync);
+    }
+
+    @Test
+    @DisplayName("Should send the final pose once the camera stops")
+    void sendsTheFinalPoseOnceTheCameraStops() {
+        // Given
+        CameraSyncTracker tracker = syncedAt(camera(0, 0));
+        KeyframeLocation stopped = camera(0.5, 0);
+
+        // When
+        int ticks = 1;
+        while (!tracker.shouldSync(stopped)) {
+            ticks++;
+        }
+        tracker.markSynced(stopped);
+
+        // Then
+        assertEquals(NarrativeCraftConstants.CAMERA_SYNC_INTERVAL_TICKS, ticks);
+        assertFalse(tracker.shouldSync(camera(0.5, 0)));
+    }
+
+    @Test
+    @DisplayName("Should sync again after reset")
+    void syncsAgainAfterReset() {
+        // Given
+        CameraSyncTracker tracker = syncedAt(camera(0, 0));
+        assertFalse(tracker.shouldSync(camera(0, 0)));
+
+        // When
+        tracker.reset();
+
+        // Then
+        assertTrue(tracker.shouldSync(camera(0, 0)));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import fr.loudo.narrativecraft.api.inkAction.InkAction;
+import fr.loudo.narrativecraft.api.inkAction.InkActionResult;
+import fr.loudo.narrativecraft.narrative.chapter.scene.Scene;
+import fr.loudo.narrativecraft.narrative.session.InkActionList;
+import fr.loudo.narrativecraft.narrative.session.PlayerSession;
+import fr.loudo.narrativecraft.narrative.story.inkAction.GameplayInkAction;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InkActionList")
+class InkActionListTest {
+
+    private static InkAction action(String id, InkAction.Side side) {
+        return new InkAction(id, side, id, command -> false) {
+            @Override
+            protected InkActionResult doValidate(List<String> arguments, Scene scene) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            protected InkActionResult doExecute(PlayerSession playerSession) {
+                return InkActionResult.ok();
+            }
+
+            @Override
+            public boolean needScene() {
+                return false;
+            }
+        };
+    }
+
+    @Test
+    void splitsActionsBySide() {
+        InkActionList inkActions = new InkActionList();
+        InkAction client = action("client", InkAction.Side.CLIENT);
+        InkAction server = action("server", InkAction.Side.SERVER);
+        InkAction sideless = action("sideless", null);
+        inkActions.add(client);
+        inkActions.add(sideless);
+        inkActions.add(server);
+
+        assertEquals(3, inkActions.size());
+        assertArrayEquals(new InkAction[] {client}, inkActions.getClientSide());
+        assertArrayEquals(new InkAction[] {server}, inkActions.getServerSide());
+        assertSame(inkActions.getClientSide(), inkActions.getClientSide());
+    }
+
+    @Test
+    void sideArraysFollowRemovals() {
+        InkActionList inkActions = new InkActionList();
+        InkAction first = action("first", InkAction.Side.CLIENT);
+        InkAction second = action("second", InkAction.Side.CLIENT);
+        inkActions.addAll(List.of(first, second, action("server", InkAction.Side.SERVER)));
+
+        inkActions.remove(first);
+        assertArrayEquals(new InkAction[] {second}, inkActions.getClientSide());
+        inkActions.removeIf(inkAction -> inkAction.getSide() == InkAction.Side.SERVER);
+        assertEquals(0, inkActions.getServerSide().length);
+        inkActions.clear();
+        assertEquals(0, inkActions.getClientSide().length);
+        assertTrue(inkActions.isEmpty());
+    }
+
+    @Test
+    void tracksGameplayActions() {
+        InkActionList inkActions = new InkActionList();
+        inkActions.add(action("client", InkAction.Side.CLIENT));
+        assertFalse(inkActions.hasGameplay());
+
+        inkActions.add(new GameplayInkAction("gameplay", InkAction.Side.SERVER, "on enter", command -> false));
+        assertTrue(inkActions.hasGameplay());
+        inkActions.removeIf(inkAction -> inkAction instanceof GameplayInkAction);
+        assertFalse(inkActions.hasGameplay());
+    }
+
+    @Test
+    void removingWhileLoopingKeepsTheLoopGoing() {
+        InkActionList inkActions = new InkActionList();
+        inkActions.addAll(List.of(action("a", InkAction.Side.CLIENT), action("b", InkAction.Side.CLIENT)));
+
+        int visited = 0;
+        for (InkAction inkAction : inkActions) {
+            inkActions.remove(inkAction);
+            visited++;
+        }
+        assertEquals(2, visited);
+        assertTrue(inkActions.isEmpty());
+        assertEquals(0, inkActions.getClientSide().length);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * NarrativeCraft - Create your own stories, easily, and freely in Minecraft.
+ * Copyright (c) 2025 LOUDO and contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package fr.loudo.narrativecraft.unit.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import fr.loudo.narrativecraft.controllers.interaction.InteractionController;
+import fr.loudo.narrativecraft.narrative.chapter.scene.data.interaction.EntityInteraction;
+import fr.loudo.narrativecraft.narrative.session.InteractionLookTracker;
+import fr.loudo.narrativecraft.util.NarrativeCraftConstants;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InteractionLookTracker")
+class InteractionLookTrackerTest {
+
+    private final List<EntityInteraction> entityInteractions = new ArrayList<>();
+    private final List<ArmorStand> checked = new ArrayList<>();
+    private InteractionController controller;
+    private Player player;
+    private InteractionLookTracker tracker;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Player at the origin looking down +Z, eyes 1.6 blocks up
+        player = mock(Player.class);
+        when(player.position()).thenReturn(Vec3.ZERO);
+        when(player.getEyePosition()).thenReturn(new Vec3(0, 1.6, 0));
+        when(player.getViewVector(1.0F)).thenReturn(new Vec3(0, 0, 1));
+        controller = mock(InteractionController.class);
+        when(controller.getCharacterInteractions()).thenReturn(List.of());
+        when(controller.getEntityInteractions()).thenReturn(entityInteractions);
+        tracker = new InteractionLookTracker();
+    }
+
+    private ArmorStand armorStandAt(int id, double x, double z) {
+        ArmorStand armorStand = mock(ArmorStand.class);
+        when(armorStand.getId()).thenReturn(id);
+        when(armorStand.getX()).thenReturn(x);
+        when(armorStand.getY()).thenReturn(0.6);
+        when(armorStand.getZ()).thenReturn(z);
+        when(armorStand.getBbHeight()).thenReturn(2.0F);
+        when(armorStand.position()).thenReturn(new Vec3(x, 0.6, z));
+        EntityInteraction entityInteraction = mock(EntityInteraction.class);
+        when(entityInteraction.getStitch()).thenReturn("stitch_" + id);
+        when(entityInteraction.getArmorStand()).thenReturn(armorStand);
+        entityInteractions.add(entityInteraction);
+        return armorStand;
+    }
+
+    private int find(boolean looking) {
+        return tracker.find(List.of(controller), player, null, (target, tolerance, targetY) -> {
+            checked.add((ArmorStand) target);
+            return looking;
+        });
+    }
+
+    @Test
+    @DisplayName("Should not run the look check on entities outside the view cone")
+    void skipsEntitiesOutsideTheCone() {
+        // Given
+        armorStandAt(1, 3, 1);
+        armorStandAt(2, 0, -2);
+
+        // When
+        int result = find(true);
+
+        // Then
+        assertEquals(-1, result);
+        assertTrue(checked.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not run the look check on entities out of reach")
+    void skipsEntitiesOutOfReach() {
+        // Given
+        armorStandAt(1, 0, NarrativeCraftConstants.INTERACTION_LOOK_DISTANCE + 1);
+
+        // When
+        int result = find(true);
+
+        // Then
+        assertEquals(-1, result);
+        assertTrue(checked.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should check only the nearest cone candidates, nearest first")
+    void checksNearestCandidatesFirst() {
+        // Given
+        ArmorStand far = armorStandAt(1, 0, 4.5);
+        ArmorStand near = armorStandAt(2, 0, 1);
+        ArmorStand middle = armorStandAt(3, 0, 2);
+        armorStandAt(4, 0, 3.5);
+        armorStandAt(5, 0, 4);
+
+        // When
+        int result = find(false);
+
+        // Then
+        assertEquals(-1, result);
+        assertEquals(NarrativeCraftConstants.INTERACTION_LOOK_MAX_CANDIDATES, checked.size());
+        assertSame(near, checked.get(0));
+        assertSame(middle, checked.get(1));
+        assertFalse(checked.contains(far));
+    }
+
+    @Test
+    @DisplayName("Should return the nearest candidate that passes the look check")
+    void returnsNearestMatch() {
+        // Given
+        armorStandAt(1, 0, 3);
+        armorStandAt(2, 0, 1.5);
+
+        // When
+        int result = find(true);
+
+        // Then
+        assertEquals(2, result);
+        assertEquals(1, checked.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous result until the pose or candidates change, or after reset")
+    void keepsResultUntilSomethingMoves() {
+        // Given
+        armorStandAt(1, 0, 2);
+        assertEquals(1, find(true));
+        checked.clear();
+
+        // When
+        int kept = find(false);
+        tracker.reset();
+        int afterReset = find(false);
+
+        // Then
+        assertEquals(1, kept);
+        assertEquals(-1, afterReset);
+        assertEquals(1, checked.size());
+    }
+}
@@ -143,14 +143,22 @@ public interface IUtilCompat {
     Object createEntityFromType(Object entityType, Object level);
 
     /**
-     * Load NBT data into an entity.
-     * Handles the different load() method signatures between MC versions.
-     * In 1.21.x uses ValueInput, in 1.20.x uses CompoundTag directly.
+     * Parse an entity NBT string once, so it can be loaded repeatedly with
+     * {@link #loadEntityFromTag(Object, Object)}.
+     *
+     * @param nbtString The NBT string to parse
+     * @return The parsed CompoundTag
+     */
+    Object parseEntityNbt(String nbtString);
+
+    /**
+     * Load an NBT tag returned by {@link #parseEntityNbt(String)} into an entity.
+     * The tag is copied before loading, so the same tag can be reused.
      *
      * @param entity The entity to load data into
-     * @param nbtString The NBT string to parse and load
+     * @param compoundTag The parsed CompoundTag
      */
-    void loadEntityFromNbt(Object entity, String nbtString);
+    void loadEntityFromTag(Object entity, Object compoundTag);
 
     /**
      * Serialize an entity to NBT string for storage.
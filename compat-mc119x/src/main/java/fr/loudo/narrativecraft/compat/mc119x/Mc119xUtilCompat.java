@@ -180,16 +180,20 @@ public class Mc119xUtilCompat implements IUtilCompat {
     }
 
     @Override
-    public void loadEntityFromNbt(Object entity, String nbtString) {
-        Entity e = (Entity) entity;
+    public Object parseEntityNbt(String nbtString) {
         try {
-            CompoundTag tag = TagParser.parseTag(nbtString);
-            e.load(tag);
+            return TagParser.parseTag(nbtString);
         } catch (CommandSyntaxException ex) {
             throw new RuntimeException("Failed to parse NBT for entity load", ex);
         }
     }
 
+    @Override
+    public void loadEntityFromTag(Object entity, Object compoundTag) {
+        Entity e = (Entity) entity;
+        e.load(((CompoundTag) compoundTag).copy());
+    }
+
     @Override
     public String serializeEntityToNbt(Object entity) {
         Entity e = (Entity) entity;
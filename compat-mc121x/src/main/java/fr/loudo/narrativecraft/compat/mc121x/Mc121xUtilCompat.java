@@ -210,17 +210,22 @@ public class Mc121xUtilCompat implements IUtilCompat {
     }
 
     @Override
-    public void loadEntityFromNbt(Object entity, String nbtString) {
-        Entity e = (Entity) entity;
+    public Object parseEntityNbt(String nbtString) {
         try {
-            CompoundTag tag = TagParser.parseCompoundAsArgument(new StringReader(nbtString));
-            ValueInput input = TagValueInput.create(ProblemReporter.DISCARDING, e.registryAccess(), tag);
-            e.load(input);
+            return TagParser.parseCompoundAsArgument(new StringReader(nbtString));
         } catch (CommandSyntaxException ex) {
             throw new RuntimeException("Failed to parse NBT for entity load", ex);
         }
     }
 
+    @Override
+    public void loadEntityFromTag(Object entity, Object compoundTag) {
+        Entity e = (Entity) entity;
+        CompoundTag tag = ((CompoundTag) compoundTag).copy();
+        ValueInput input = TagValueInput.create(ProblemReporter.DISCARDING, e.registryAccess(), tag);
+        e.load(input);
+    }
+
     @Override
     public String serializeEntityToNbt(Object entity) {
         Entity e = (Entity) entity;